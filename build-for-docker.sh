@@ -7,8 +7,9 @@ mvn clean package -DskipTests
 # Create dependency directory
 mkdir -p target/dependency
 
-# Copy H2 driver to dependency directory
-echo "Copying H2 driver..."
+# Copy JDBC drivers to dependency directory
+echo "Copying H2 and PostgreSQL drivers..."
 cp ~/.m2/repository/com/h2database/h2/2.2.224/h2-2.2.224.jar target/dependency/
+cp ~/.m2/repository/org/postgresql/postgresql/42.7.4/postgresql-42.7.4.jar target/dependency/
 
 echo "Build complete! You can now run: docker-compose up --build" 
\ No newline at end of file
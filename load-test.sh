@@ -0,0 +1,67 @@
+#!/bin/bash
+
+# Load Test Script - compares REST execution modes
+# Usage: ./load-test.sh [concurrency] [duration] [modes...]
+#
+# For each mode, starts the server with REST_EXECUTION_MODE set, creates a user,
+# hammers the read endpoints with `hey` and prints latency and throughput.
+# Requires: hey (https://github.com/rakyll/hey), curl, a packaged build (mvn package).
+# The virtual mode needs a Java 21 runtime (build with -Pjava21).
+
+CONCURRENCY="${1:-2000}"
+DURATION="${2:-30s}"
+shift $(( $# < 2 ? $# : 2 ))
+if [ $# -gt 0 ]; then MODES=("$@"); else MODES=(sync virtual); fi
+
+BASE_URL="http://localhost:9080/user-management/api/users"
+RESULTS_DIR="target/load-test"
+
+if ! command -v hey >/dev/null 2>&1; then
+    echo "❌ hey is not installed: go install github.com/rakyll/hey@latest"
+    exit 1
+fi
+
+mkdir -p "$RESULTS_DIR"
+
+wait_for_server() {
+    for _ in $(seq 1 60); do
+        curl -sf "$BASE_URL/health" >/dev/null && return 0
+        sleep 2
+    done
+    echo "❌ Server did not become healthy"
+    return 1
+}
+
+for MODE in "${MODES[@]}"; do
+    echo "🚀 Starting server in $MODE mode..."
+    # Rate limiting would turn most of a single-host load test into 429s
+    REST_EXECUTION_MODE="$MODE" RATE_LIMIT_ENABLED=false CACHE_STATISTICS_ENABLED=true mvn -q liberty:start || exit 1
+    wait_for_server || { mvn -q liberty:stop; exit 1; }
+
+    USER_ID=$(curl -s -X POST "$BASE_URL" -H "Content-Type: application/json" \
+        -d "{\"firstName\":\"Load\",\"lastName\":\"Test\",\"email\":\"load.$MODE.$RANDOM@example.com\",\"password\":\"loadTest123\",\"birthday\":\"1990-01-01\"}" \
+        | sed -n 's/.*"id":"\([0-9a-f]*\)".*/\1/p')
+
+    echo "📊 $MODE: $CONCURRENCY concurrent clients for $DURATION"
+    hey -z "$DURATION" -c "$CONCURRENCY" "$BASE_URL/$USER_ID" > "$RESULTS_DIR/$MODE-by-id.txt"
+    hey -z "$DURATION" -c "$CONCURRENCY" "$BASE_URL?page=0&size=20" > "$RESULTS_DIR/$MODE-list.txt"
+
+    THREADS=$(jcmd "$(pgrep -f 'ws-server.jar.*defaultServer' | head -1)" Thread.print 2>/dev/null | grep -c '^"')
+    echo "   Platform threads after run: ${THREADS:-unknown}"
+    curl -s "http://localhost:9080/metrics?scope=application" | grep '^cache_user_.*_hit_ratio' \
+        | tee "$RESULTS_DIR/$MODE-cache.txt" | sed 's/^/   /'
+
+    mvn -q liberty:stop
+done
+
+echo ""
+echo "📋 Summary (full reports in $RESULTS_DIR)"
+for MODE in "${MODES[@]}"; do
+    for TEST in by-id list; do
+        FILE="$RESULTS_DIR/$MODE-$TEST.txt"
+        RPS=$(grep 'Requests/sec' "$FILE" | awk '{print $2}')
+        P99=$(grep '99%' "$FILE" | awk '{print $3}')
+        ERRORS=$(grep -A20 'Status code distribution' "$FILE" | grep -v '\[200\]' | grep -c 'responses')
+        printf "   %-8s %-6s %10s req/s   p99 %8ss   non-200 codes: %s\n" "$MODE" "$TEST" "$RPS" "$P99" "$ERRORS"
+    done
+done
@@ -0,0 +1,189 @@
+package com.tech11.usermanagement.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses response bodies with gzip or deflate when the client accepts it and the body is
+ * at least {@code compression.threshold.bytes} long. Smaller bodies are sent as they are,
+ * since compressing them costs more CPU than it saves on the wire.
+ *
+ * The body is buffered to learn its size, then written once. A strong entity tag gets the
+ * coding appended ({@code "id-3-gzip"}), since the compressed bytes are a different
+ * representation; the user resource ignores the suffix when comparing tags. Every response
+ * carries {@code Vary: Accept, Accept-Encoding} so caches keep representations apart.
+ */
+@Provider
+@ApplicationScoped
+public class CompressionInterceptor implements WriterInterceptor {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    @Inject
+    @ConfigProperty(name = "compression.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "compression.threshold.bytes", defaultValue = "1024")
+    int thresholdBytes;
+
+    @Inject
+    @ConfigProperty(name = "compression.level", defaultValue = "6")
+    int level;
+
+    @Context
+    private HttpHeaders requestHeaders;
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        if (isEventStream(context)) {
+            // Events must reach the client as they are written, not buffered
+            context.proceed();
+            return;
+        }
+        MultivaluedMap<String, Object> headers = context.getHeaders();
+        headers.add(HttpHeaders.VARY, "Accept, Accept-Encoding");
+
+        String coding = enabled && !headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+                ? negotiate(requestHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING))
+                : null;
+        if (coding == null) {
+            context.proceed();
+            return;
+        }
+
+        OutputStream original = context.getOutputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+        context.setOutputStream(body);
+        context.proceed();
+
+        if (body.size() < thresholdBytes) {
+            body.writeTo(original);
+            return;
+        }
+
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, coding);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        Object etag = headers.getFirst(HttpHeaders.ETAG);
+        if (etag != null) {
+            headers.putSingle(HttpHeaders.ETAG, withCoding(etag, coding));
+        }
+
+        try (OutputStream compressed = compress(original, coding)) {
+            body.writeTo(compressed);
+        }
+    }
+
+    /**
+     * Pick a content coding from an Accept-Encoding header, preferring gzip.
+     *
+     * @return "gzip", "deflate", or null for no compression
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        Boolean gzip = null;
+        Boolean deflate = null;
+        boolean any = false;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.trim().toLowerCase(Locale.ROOT).split(";");
+            boolean accepted = !isRefused(parts);
+            switch (parts[0].trim()) {
+                case GZIP, "x-gzip" -> gzip = accepted;
+                case DEFLATE -> deflate = accepted;
+                case "*" -> any = accepted;
+                default -> { }
+            }
+        }
+        // An explicit entry for a coding overrides the wildcard
+        if (gzip != null ? gzip : any) {
+            return GZIP;
+        }
+        return (deflate != null ? deflate : any) ? DEFLATE : null;
+    }
+
+    private static boolean isRefused(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0.0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEventStream(WriterInterceptorContext context) {
+        Class<?> type = context.getType();
+        return (type != null && OutboundSseEvent.class.isAssignableFrom(type))
+                || MediaType.SERVER_SENT_EVENTS_TYPE.isCompatible(context.getMediaType());
+    }
+
+    private static Object withCoding(Object etag, String coding) {
+        EntityTag tag = etag instanceof EntityTag entityTag
+                ? entityTag
+                : RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class).fromString(etag.toString());
+        return tag.isWeak() ? tag : new EntityTag(tag.getValue() + "-" + coding);
+    }
+
+    private OutputStream compress(OutputStream out, String coding) throws IOException {
+        // Both streams must not close the container's stream: finish() is enough
+        OutputStream target = new UnclosableOutputStream(out);
+        if (GZIP.equals(coding)) {
+            return new GZIPOutputStream(target, 8192) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+        return new DeflaterOutputStream(target, new Deflater(level), 8192) {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                def.end();
+            }
+        };
+    }
+
+    private static final class UnclosableOutputStream extends FilterOutputStream {
+
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
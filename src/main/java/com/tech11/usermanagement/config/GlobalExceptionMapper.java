@@ -5,6 +5,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
@@ -50,6 +51,16 @@ public class GlobalExceptionMapper implements jakarta.ws.rs.ext.ExceptionMapper<
                     .build();
         }
 
+        if (exception instanceof WebApplicationException) {
+            // Keep status and headers such as Retry-After from the original response
+            Response original = ((WebApplicationException) exception).getResponse();
+            ErrorResponse errorResponse = new ErrorResponse(original.getStatus(), exception.getMessage());
+            return Response.fromResponse(original)
+                    .entity(errorResponse)
+                    .type(MediaType.APPLICATION_JSON)
+                    .build();
+        }
+
         // Handle any other exceptions
         ErrorResponse errorResponse = new ErrorResponse(500, "Internal server error");
         return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
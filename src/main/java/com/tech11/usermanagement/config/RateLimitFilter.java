@@ -0,0 +1,169 @@
+package com.tech11.usermanagement.config;
+
+import com.tech11.usermanagement.dto.response.ErrorResponse;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Rate limits REST requests with two token buckets: one per client IP, shared by all routes,
+ * and one per resource method, shared by all clients. A request must get a token from both,
+ * otherwise it is answered with 429 and Retry-After before reaching the resource. A client token
+ * taken for a request the route bucket then rejects is given back, so congestion on one endpoint
+ * does not use up every caller's own budget.
+ *
+ * On the allow path the filter only does map lookups and CAS updates. Client buckets live in
+ * a map capped at {@code rate.limit.max.clients}; buckets that have refilled completely carry
+ * no state and are the first to be evicted. Eviction frees a tenth of the cap at once, so the
+ * sweep runs once per many new clients rather than on every one.
+ *
+ * Rejections are logged individually at FINE only, and summarised in one warning at most every
+ * {@value #LOG_INTERVAL_SECONDS} seconds, so a flood of 429s does not turn into a flood of log lines.
+ */
+@Provider
+@ApplicationScoped
+@Priority(Priorities.USER - 100)
+public class RateLimitFilter implements ContainerRequestFilter {
+
+    private static final Logger LOGGER = Logger.getLogger(RateLimitFilter.class.getName());
+
+    private static final long LOG_INTERVAL_SECONDS = 10;
+
+    @Inject
+    @ConfigProperty(name = "rate.limit.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "rate.limit.client.rate", defaultValue = "50")
+    double clientRate;
+
+    @Inject
+    @ConfigProperty(name = "rate.limit.client.burst", defaultValue = "100")
+    int clientBurst;
+
+    @Inject
+    @ConfigProperty(name = "rate.limit.route.rate", defaultValue = "1000")
+    double routeRate;
+
+    @Inject
+    @ConfigProperty(name = "rate.limit.route.burst", defaultValue = "2000")
+    int routeBurst;
+
+    @Inject
+    @ConfigProperty(name = "rate.limit.max.clients", defaultValue = "100000")
+    int maxClients;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    @Context
+    private HttpServletRequest httpRequest;
+
+    private final ConcurrentHashMap<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, TokenBucket> routeBuckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong lastWarningNanos = new AtomicLong(System.nanoTime());
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+
+        String client = httpRequest.getRemoteAddr();
+        TokenBucket clientBucket = clientBucket(client, now);
+        long wait = clientBucket.tryAcquire(now);
+        if (wait > 0) {
+            LOGGER.fine(() -> "RateLimitFilter: Client rate limit exceeded for: " + client);
+            reject(requestContext, wait, now);
+            return;
+        }
+
+        Method route = resourceInfo.getResourceMethod();
+        if (route != null) {
+            wait = routeBucket(route).tryAcquire(now);
+            if (wait > 0) {
+                clientBucket.refund(now);
+                LOGGER.fine(() -> "RateLimitFilter: Route rate limit exceeded for: " + route.getName());
+                reject(requestContext, wait, now);
+            }
+        }
+    }
+
+    private TokenBucket clientBucket(String client, long now) {
+        TokenBucket bucket = clientBuckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (clientBuckets.size() >= maxClients) {
+            evict(now);
+        }
+        return clientBuckets.computeIfAbsent(client, key -> new TokenBucket(clientRate, clientBurst));
+    }
+
+    private TokenBucket routeBucket(Method route) {
+        TokenBucket bucket = routeBuckets.get(route);
+        return bucket != null ? bucket : routeBuckets.computeIfAbsent(route, key -> new TokenBucket(routeRate, routeBurst));
+    }
+
+    /**
+     * Drop refilled buckets, then arbitrary ones, until the map is down to 90% of the cap.
+     */
+    private void evict(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int lowWaterMark = maxClients - Math.max(1, maxClients / 10);
+            clientBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+            Iterator<TokenBucket> it = clientBuckets.values().iterator();
+            while (clientBuckets.size() > lowWaterMark && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void reject(ContainerRequestContext requestContext, long waitNanos, long now) {
+        rejected.increment();
+        long last = lastWarningNanos.get();
+        if (now - last >= TimeUnit.SECONDS.toNanos(LOG_INTERVAL_SECONDS) && lastWarningNanos.compareAndSet(last, now)) {
+            LOGGER.warning("RateLimitFilter: Rejected %d requests in the last %d seconds"
+                    .formatted(rejected.sumThenReset(), TimeUnit.NANOSECONDS.toSeconds(now - last)));
+        }
+        requestContext.abortWith(tooManyRequests(waitNanos));
+    }
+
+    private static Response tooManyRequests(long waitNanos) {
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        return Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .entity(new ErrorResponse(429, "Rate limit exceeded, please retry later"))
+                .type(MediaType.APPLICATION_JSON)
+                .build();
+    }
+}
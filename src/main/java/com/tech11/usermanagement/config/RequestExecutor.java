@@ -0,0 +1,121 @@
+package com.tech11.usermanagement.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ContextService;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the blocking part of a REST request according to {@code rest.execution.mode}:
+ *
+ * - {@code sync}: on the request thread, completing before the resource method returns
+ * - {@code managed}: on the server's managed executor, releasing the request thread
+ * - {@code virtual}: on a new virtual thread per request, so requests blocked on JDBC do not
+ *   each hold a platform thread. Needs Java 21; falls back to {@code managed} on older runtimes
+ *
+ * Tasks carry the application's context onto the worker thread, so CDI, JNDI and transactions
+ * behave as they do on the request thread. Failures complete the stage with the original
+ * exception, which the exception mappers then handle as if it had been thrown directly.
+ */
+@ApplicationScoped
+public class RequestExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(RequestExecutor.class.getName());
+
+    public enum Mode { SYNC, MANAGED, VIRTUAL }
+
+    @Inject
+    @ConfigProperty(name = "rest.execution.mode", defaultValue = "sync")
+    String configuredMode;
+
+    @Resource
+    private ManagedExecutorService managedExecutor;
+
+    @Resource
+    private ContextService contextService;
+
+    private Mode mode;
+    private Executor executor;
+    private ExecutorService virtualThreads;
+
+    @PostConstruct
+    void init() {
+        mode = Mode.valueOf(configuredMode.trim().toUpperCase(Locale.ROOT));
+        if (mode == Mode.VIRTUAL) {
+            virtualThreads = newVirtualThreadPerTaskExecutor();
+            if (virtualThreads == null) {
+                LOGGER.warning("RequestExecutor: Virtual threads need Java 21, using the managed executor");
+                mode = Mode.MANAGED;
+            }
+        }
+        executor = switch (mode) {
+            case SYNC -> Runnable::run;
+            case MANAGED -> managedExecutor;
+            case VIRTUAL -> virtualThreads;
+        };
+        LOGGER.info("RequestExecutor: Running requests in " + mode + " mode");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Run a blocking task in the configured mode.
+     *
+     * @param task the work to run, typically a service call and response construction
+     * @return stage completing with the task's result or the exception it threw
+     */
+    public <T> CompletionStage<T> supply(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Supplier<T> contextual = mode == Mode.SYNC ? task : contextService.contextualSupplier(task);
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(contextual.get());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.log(Level.WARNING, "RequestExecutor: Task rejected", e);
+            result.completeExceptionally(new ServiceUnavailableException("Server is busy, please retry", 1L));
+        }
+        return result;
+    }
+
+    /**
+     * Look up {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively, so the
+     * application still compiles and runs on Java 17.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
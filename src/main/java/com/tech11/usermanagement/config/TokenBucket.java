@@ -0,0 +1,73 @@
+package com.tech11.usermanagement.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: instead of a token count, the bucket stores the
+ * theoretical arrival time of the next request. A request is admitted if that time is no
+ * further ahead of now than the burst allows, and admitting it pushes the time forward by
+ * one emission interval. Taking a token is a single CAS and allocates nothing.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param ratePerSecond sustained requests per second
+     * @param burst requests that may be admitted at once from a full bucket
+     */
+    TokenBucket(double ratePerSecond, int burst) {
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / ratePerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, burst);
+    }
+
+    /**
+     * Take one token.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return 0 if admitted, otherwise nanoseconds until a token will be available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = current == Long.MIN_VALUE || current - nowNanos < 0 ? nowNanos : current;
+            long next = base + emissionIntervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstToleranceNanos) {
+                return ahead - burstToleranceNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Give back a token taken by {@link #tryAcquire(long)} for a request that was not served,
+     * without filling the bucket beyond full.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    void refund(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            if (current == Long.MIN_VALUE || current - nowNanos <= 0) {
+                return;
+            }
+            long previous = current - emissionIntervalNanos;
+            if (theoreticalArrival.compareAndSet(current, previous - nowNanos < 0 ? nowNanos : previous)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return true if the bucket has refilled completely, so dropping it loses no state
+     */
+    boolean isIdle(long nowNanos) {
+        long current = theoreticalArrival.get();
+        return current == Long.MIN_VALUE || current - nowNanos <= 0;
+    }
+}
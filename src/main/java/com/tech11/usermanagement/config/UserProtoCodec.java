@@ -0,0 +1,308 @@
+package com.tech11.usermanagement.config;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.tech11.usermanagement.data.PaginatedResponse;
+import com.tech11.usermanagement.dto.request.CreateUserRequest;
+import com.tech11.usermanagement.dto.response.UserLookupResult;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import jakarta.ws.rs.BadRequestException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Encodes and decodes the messages of {@code src/main/proto/user_service.proto}.
+ *
+ * The messages are few and small, so they are written field by field with protobuf's coded
+ * streams instead of through generated classes. Field numbers below must match the schema.
+ * User IDs travel as 16 raw bytes and are converted to and from the hex form used by
+ * {@link com.tech11.usermanagement.services.UserService}.
+ */
+public final class UserProtoCodec {
+
+    public static final String APPLICATION_PROTOBUF = "application/x-protobuf";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    // User
+    private static final int USER_ID = 1;
+    private static final int USER_FIRST_NAME = 2;
+    private static final int USER_LAST_NAME = 3;
+    private static final int USER_EMAIL = 4;
+    private static final int USER_BIRTHDAY = 5;
+    private static final int USER_CREATED_AT = 6;
+    private static final int USER_UPDATED_AT = 7;
+    private static final int USER_VERSION = 8;
+
+    // UserLookup
+    private static final int LOOKUP_ID = 1;
+    private static final int LOOKUP_USER = 2;
+
+    // BatchGetUsersResponse
+    private static final int BATCH_RESULTS = 1;
+
+    // SearchUsersResponse
+    private static final int SEARCH_USERS = 1;
+    private static final int SEARCH_PAGE = 2;
+    private static final int SEARCH_SIZE = 3;
+    private static final int SEARCH_TOTAL_ELEMENTS = 4;
+    private static final int SEARCH_TOTAL_PAGES = 5;
+
+    /**
+     * A decoded SearchUsersRequest. Empty filters are null and an unset size is 10.
+     */
+    public record SearchQuery(String firstName, String lastName, String email, int page, int size) {
+    }
+
+    private UserProtoCodec() {
+    }
+
+    // ---- Requests ----
+
+    /**
+     * @return the requested ID as hex string
+     */
+    public static String decodeGetUserRequest(byte[] body) {
+        String id = "";
+        try {
+            CodedInputStream in = CodedInputStream.newInstance(body);
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (tag) {
+                    case (1 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED -> id = HEX.formatHex(in.readByteArray());
+                    default -> in.skipField(tag);
+                }
+            }
+        } catch (IOException e) {
+            throw malformed("GetUserRequest", e);
+        }
+        return id;
+    }
+
+    /**
+     * @return the requested IDs as hex strings, in request order
+     */
+    public static List<String> decodeBatchGetUsersRequest(byte[] body) {
+        List<String> ids = new ArrayList<>();
+        try {
+            CodedInputStream in = CodedInputStream.newInstance(body);
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (tag) {
+                    case (1 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED -> ids.add(HEX.formatHex(in.readByteArray()));
+                    default -> in.skipField(tag);
+                }
+            }
+        } catch (IOException e) {
+            throw malformed("BatchGetUsersRequest", e);
+        }
+        return ids;
+    }
+
+    public static SearchQuery decodeSearchUsersRequest(byte[] body) {
+        String firstName = null;
+        String lastName = null;
+        String email = null;
+        int page = 0;
+        int size = 0;
+        try {
+            CodedInputStream in = CodedInputStream.newInstance(body);
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (tag) {
+                    case (1 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED -> firstName = emptyToNull(in.readStringRequireUtf8());
+                    case (2 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED -> lastName = emptyToNull(in.readStringRequireUtf8());
+                    case (3 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED -> email = emptyToNull(in.readStringRequireUtf8());
+                    case (4 << 3) | WireFormat.WIRETYPE_VARINT -> page = in.readInt32();
+                    case (5 << 3) | WireFormat.WIRETYPE_VARINT -> size = in.readInt32();
+                    default -> in.skipField(tag);
+                }
+            }
+        } catch (IOException e) {
+            throw malformed("SearchUsersRequest", e);
+        }
+        return new SearchQuery(firstName, lastName, email, page, size == 0 ? 10 : size);
+    }
+
+    public static CreateUserRequest decodeCreateUserRequest(byte[] body) {
+        CreateUserRequest request = new CreateUserRequest();
+        try {
+            CodedInputStream in = CodedInputStream.newInstance(body);
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (tag) {
+                    case (1 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED -> request.setFirstName(in.readStringRequireUtf8());
+                    case (2 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED -> request.setLastName(in.readStringRequireUtf8());
+                    case (3 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED -> request.setEmail(in.readStringRequireUtf8());
+                    case (4 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED -> request.setPassword(in.readStringRequireUtf8());
+                    case (5 << 3) | WireFormat.WIRETYPE_VARINT -> request.setBirthday(LocalDate.ofEpochDay(in.readInt32()));
+                    default -> in.skipField(tag);
+                }
+            }
+        } catch (IOException e) {
+            throw malformed("CreateUserRequest", e);
+        }
+        return request;
+    }
+
+    // ---- Responses ----
+
+    public static byte[] encodeUser(UserResponse user) {
+        byte[] bytes = new byte[userSize(user)];
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        try {
+            writeUserFields(out, user);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode user", e);
+        }
+        return bytes;
+    }
+
+    public static byte[] encodeBatchGetUsersResponse(List<UserLookupResult> results) {
+        int size = 0;
+        for (UserLookupResult result : results) {
+            size += embeddedSize(BATCH_RESULTS, lookupSize(result));
+        }
+        byte[] bytes = new byte[size];
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        try {
+            for (UserLookupResult result : results) {
+                out.writeTag(BATCH_RESULTS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(lookupSize(result));
+                writeId(out, LOOKUP_ID, result.getId());
+                if (result.getUser() != null) {
+                    writeEmbeddedUser(out, LOOKUP_USER, result.getUser());
+                }
+            }
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode batch response", e);
+        }
+        return bytes;
+    }
+
+    public static byte[] encodeSearchUsersResponse(PaginatedResponse<UserResponse> page) {
+        int size = CodedOutputStream.computeInt32Size(SEARCH_PAGE, page.getPage())
+                + CodedOutputStream.computeInt32Size(SEARCH_SIZE, page.getSize())
+                + CodedOutputStream.computeInt64Size(SEARCH_TOTAL_ELEMENTS, page.getTotalElements())
+                + CodedOutputStream.computeInt32Size(SEARCH_TOTAL_PAGES, page.getTotalPages());
+        for (UserResponse user : page.getData()) {
+            size += embeddedSize(SEARCH_USERS, userSize(user));
+        }
+        byte[] bytes = new byte[size];
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        try {
+            for (UserResponse user : page.getData()) {
+                writeEmbeddedUser(out, SEARCH_USERS, user);
+            }
+            out.writeInt32(SEARCH_PAGE, page.getPage());
+            out.writeInt32(SEARCH_SIZE, page.getSize());
+            out.writeInt64(SEARCH_TOTAL_ELEMENTS, page.getTotalElements());
+            out.writeInt32(SEARCH_TOTAL_PAGES, page.getTotalPages());
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode search response", e);
+        }
+        return bytes;
+    }
+
+    // ---- Helpers ----
+
+    private static int userSize(UserResponse user) {
+        int size = 0;
+        if (user.getId() != null) {
+            size += idSize(USER_ID, user.getId());
+        }
+        if (user.getFirstName() != null) {
+            size += CodedOutputStream.computeStringSize(USER_FIRST_NAME, user.getFirstName());
+        }
+        if (user.getLastName() != null) {
+            size += CodedOutputStream.computeStringSize(USER_LAST_NAME, user.getLastName());
+        }
+        if (user.getEmail() != null) {
+            size += CodedOutputStream.computeStringSize(USER_EMAIL, user.getEmail());
+        }
+        if (user.getBirthday() != null) {
+            size += CodedOutputStream.computeInt32Size(USER_BIRTHDAY, (int) user.getBirthday().toEpochDay());
+        }
+        if (user.getCreatedAt() != null) {
+            size += CodedOutputStream.computeInt64Size(USER_CREATED_AT, micros(user.getCreatedAt()));
+        }
+        if (user.getUpdatedAt() != null) {
+            size += CodedOutputStream.computeInt64Size(USER_UPDATED_AT, micros(user.getUpdatedAt()));
+        }
+        if (user.getVersion() != null) {
+            size += CodedOutputStream.computeInt64Size(USER_VERSION, user.getVersion());
+        }
+        return size;
+    }
+
+    private static void writeUserFields(CodedOutputStream out, UserResponse user) throws IOException {
+        writeId(out, USER_ID, user.getId());
+        if (user.getFirstName() != null) {
+            out.writeString(USER_FIRST_NAME, user.getFirstName());
+        }
+        if (user.getLastName() != null) {
+            out.writeString(USER_LAST_NAME, user.getLastName());
+        }
+        if (user.getEmail() != null) {
+            out.writeString(USER_EMAIL, user.getEmail());
+        }
+        if (user.getBirthday() != null) {
+            out.writeInt32(USER_BIRTHDAY, (int) user.getBirthday().toEpochDay());
+        }
+        if (user.getCreatedAt() != null) {
+            out.writeInt64(USER_CREATED_AT, micros(user.getCreatedAt()));
+        }
+        if (user.getUpdatedAt() != null) {
+            out.writeInt64(USER_UPDATED_AT, micros(user.getUpdatedAt()));
+        }
+        if (user.getVersion() != null) {
+            out.writeInt64(USER_VERSION, user.getVersion());
+        }
+    }
+
+    private static void writeEmbeddedUser(CodedOutputStream out, int field, UserResponse user) throws IOException {
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(userSize(user));
+        writeUserFields(out, user);
+    }
+
+    private static int lookupSize(UserLookupResult result) {
+        int size = idSize(LOOKUP_ID, result.getId());
+        if (result.getUser() != null) {
+            size += embeddedSize(LOOKUP_USER, userSize(result.getUser()));
+        }
+        return size;
+    }
+
+    private static void writeId(CodedOutputStream out, int field, String hexId) throws IOException {
+        if (hexId != null) {
+            out.writeByteArray(field, HEX.parseHex(hexId));
+        }
+    }
+
+    private static int idSize(int field, String hexId) {
+        return embeddedSize(field, hexId.length() / 2);
+    }
+
+    private static int embeddedSize(int field, int messageSize) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(messageSize) + messageSize;
+    }
+
+    private static long micros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static BadRequestException malformed(String message, IOException cause) {
+        return new BadRequestException("Malformed " + message + ": " + cause.getMessage());
+    }
+}
@@ -0,0 +1,354 @@
+package com.tech11.usermanagement.config;
+
+import com.tech11.usermanagement.data.ApiResponse;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming JSON writer for user responses.
+ *
+ * Writes {@code ApiResponse<UserResponse>} and {@code ApiResponse<List<UserResponse>>} field by
+ * field into a per-thread byte buffer, without reflection and without formatting dates through
+ * {@link java.time.format.DateTimeFormatter}. The output has the same shape as the default JSON
+ * binding: null properties are omitted and dates use the ISO-8601 local formats. User properties
+ * are written in declaration order.
+ *
+ * The writer is selected by the entity's generic type, so resources opt in by returning
+ * {@code new GenericEntity<>(response, UserResponseJsonWriter.SINGLE)} or {@link #LIST}.
+ * Every other entity is written by the default JSON provider.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class UserResponseJsonWriter implements MessageBodyWriter<ApiResponse<?>> {
+
+    public static final Type SINGLE = new GenericType<ApiResponse<UserResponse>>() {}.getType();
+    public static final Type LIST = new GenericType<ApiResponse<List<UserResponse>>>() {}.getType();
+
+    /**
+     * Buffers that grew beyond this size are dropped after use instead of being kept per thread.
+     */
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<JsonBuffer> BUFFERS = ThreadLocal.withInitial(() -> new JsonBuffer(4096));
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == ApiResponse.class && (SINGLE.equals(genericType) || LIST.equals(genericType));
+    }
+
+    @Override
+    public void writeTo(ApiResponse<?> response, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        JsonBuffer json = BUFFERS.get();
+        try {
+            writeApiResponse(json, response);
+            json.writeTo(entityStream);
+        } finally {
+            if (json.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFERS.remove();
+            } else {
+                json.reset();
+            }
+        }
+    }
+
+    static void writeApiResponse(JsonBuffer json, ApiResponse<?> response) {
+        json.raw("{\"statusCode\":").number(response.getStatusCode());
+        if (response.getMessage() != null) {
+            json.raw(",\"message\":").string(response.getMessage());
+        }
+        ApiResponse.DataWrapper<?> wrapper = response.getData();
+        if (wrapper != null) {
+            json.raw(",\"data\":{");
+            boolean first = true;
+            if (wrapper.getPageData() != null) {
+                writePageData(json, wrapper.getPageData());
+                first = false;
+            }
+            Object data = wrapper.getData();
+            if (data != null) {
+                json.raw(first ? "\"data\":" : ",\"data\":");
+                if (data instanceof List<?> users) {
+                    json.raw("[");
+                    for (int i = 0; i < users.size(); i++) {
+                        if (i > 0) {
+                            json.raw(",");
+                        }
+                        writeUser(json, (UserResponse) users.get(i));
+                    }
+                    json.raw("]");
+                } else {
+                    writeUser(json, (UserResponse) data);
+                }
+            }
+            json.raw("}");
+        }
+        json.raw("}");
+    }
+
+    private static void writePageData(JsonBuffer json, ApiResponse.PageData pageData) {
+        json.raw("\"pageData\":{\"currentPage\":").number(pageData.getCurrentPage())
+                .raw(",\"pageSize\":").number(pageData.getPageSize())
+                .raw(",\"totalPages\":").number(pageData.getTotalPages())
+                .raw(",\"totalItemsInPage\":").number(pageData.getTotalItemsInPage())
+                .raw(",\"totalItems\":").number(pageData.getTotalItems())
+                .raw("}");
+    }
+
+    private static void writeUser(JsonBuffer json, UserResponse user) {
+        if (user == null) {
+            json.raw("null");
+            return;
+        }
+        json.raw("{");
+        boolean first = true;
+        first = stringField(json, first, "\"id\":", user.getId());
+        first = stringField(json, first, "\"firstName\":", user.getFirstName());
+        first = stringField(json, first, "\"lastName\":", user.getLastName());
+        first = stringField(json, first, "\"email\":", user.getEmail());
+        if (user.getBirthday() != null) {
+            json.raw(first ? "\"birthday\":" : ",\"birthday\":").date(user.getBirthday());
+            first = false;
+        }
+        if (user.getCreatedAt() != null) {
+            json.raw(first ? "\"createdAt\":" : ",\"createdAt\":").dateTime(user.getCreatedAt());
+            first = false;
+        }
+        if (user.getUpdatedAt() != null) {
+            json.raw(first ? "\"updatedAt\":" : ",\"updatedAt\":").dateTime(user.getUpdatedAt());
+            first = false;
+        }
+        if (user.getVersion() != null) {
+            json.raw(first ? "\"version\":" : ",\"version\":").number(user.getVersion());
+            first = false;
+        }
+        if (user.getDeleted() != null) {
+            json.raw(first ? "\"deleted\":" : ",\"deleted\":").raw(user.getDeleted() ? "true" : "false");
+        }
+        json.raw("}");
+    }
+
+    private static boolean stringField(JsonBuffer json, boolean first, String name, String value) {
+        if (value == null) {
+            return first;
+        }
+        if (!first) {
+            json.raw(",");
+        }
+        json.raw(name).string(value);
+        return false;
+    }
+
+    /**
+     * Growable UTF-8 byte buffer with JSON encoding helpers.
+     */
+    static final class JsonBuffer {
+
+        private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+        private byte[] bytes;
+        private int length;
+
+        JsonBuffer(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        int capacity() {
+            return bytes.length;
+        }
+
+        void reset() {
+            length = 0;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(bytes, 0, length);
+        }
+
+        /**
+         * Append ASCII text that needs no escaping, such as punctuation and property names.
+         */
+        JsonBuffer raw(String ascii) {
+            ensure(ascii.length());
+            for (int i = 0; i < ascii.length(); i++) {
+                bytes[length++] = (byte) ascii.charAt(i);
+            }
+            return this;
+        }
+
+        JsonBuffer number(long value) {
+            if (value == Long.MIN_VALUE) {
+                return raw(Long.toString(value));
+            }
+            ensure(20);
+            if (value < 0) {
+                bytes[length++] = '-';
+                value = -value;
+            }
+            int start = length;
+            do {
+                bytes[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            reverse(start, length - 1);
+            return this;
+        }
+
+        JsonBuffer string(String value) {
+            ensure(value.length() + 2);
+            bytes[length++] = '"';
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    ensure(2);
+                    bytes[length++] = '\\';
+                    bytes[length++] = (byte) c;
+                } else if (c < 0x20) {
+                    escapeControl(c);
+                } else if (c < 0x80) {
+                    ensure(1);
+                    bytes[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    ensure(2);
+                    bytes[length++] = (byte) (0xC0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    ensure(4);
+                    bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogate, not representable in UTF-8
+                    ensure(1);
+                    bytes[length++] = '?';
+                } else {
+                    ensure(3);
+                    bytes[length++] = (byte) (0xE0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            ensure(1);
+            bytes[length++] = '"';
+            return this;
+        }
+
+        /**
+         * Append a date as {@code "yyyy-MM-dd"}.
+         */
+        JsonBuffer date(LocalDate date) {
+            ensure(24);
+            bytes[length++] = '"';
+            writeDate(date);
+            bytes[length++] = '"';
+            return this;
+        }
+
+        /**
+         * Append a timestamp as {@code "yyyy-MM-ddTHH:mm:ss[.fraction]"}, the fraction trimmed
+         * of trailing zeros, matching {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+         */
+        JsonBuffer dateTime(LocalDateTime dateTime) {
+            ensure(48);
+            bytes[length++] = '"';
+            writeDate(dateTime.toLocalDate());
+            bytes[length++] = 'T';
+            twoDigits(dateTime.getHour());
+            bytes[length++] = ':';
+            twoDigits(dateTime.getMinute());
+            bytes[length++] = ':';
+            twoDigits(dateTime.getSecond());
+            int nanos = dateTime.getNano();
+            if (nanos > 0) {
+                bytes[length++] = '.';
+                int digits = 9;
+                while (nanos % 10 == 0) {
+                    nanos /= 10;
+                    digits--;
+                }
+                int end = length + digits;
+                for (int i = end - 1; i >= length; i--) {
+                    bytes[i] = (byte) ('0' + nanos % 10);
+                    nanos /= 10;
+                }
+                length = end;
+            }
+            bytes[length++] = '"';
+            return this;
+        }
+
+        private void writeDate(LocalDate date) {
+            int year = date.getYear();
+            if (year < 0 || year > 9999) {
+                // Outside ISO's four-digit range; rare enough to take the slow path
+                String text = date.toString();
+                for (int i = 0; i < text.length(); i++) {
+                    bytes[length++] = (byte) text.charAt(i);
+                }
+                return;
+            }
+            twoDigits(year / 100);
+            twoDigits(year % 100);
+            bytes[length++] = '-';
+            twoDigits(date.getMonthValue());
+            bytes[length++] = '-';
+            twoDigits(date.getDayOfMonth());
+        }
+
+        private void twoDigits(int value) {
+            bytes[length++] = (byte) ('0' + value / 10);
+            bytes[length++] = (byte) ('0' + value % 10);
+        }
+
+        private void escapeControl(char c) {
+            ensure(6);
+            bytes[length++] = '\\';
+            switch (c) {
+                case '\n' -> bytes[length++] = 'n';
+                case '\r' -> bytes[length++] = 'r';
+                case '\t' -> bytes[length++] = 't';
+                case '\b' -> bytes[length++] = 'b';
+                case '\f' -> bytes[length++] = 'f';
+                default -> {
+                    bytes[length++] = 'u';
+                    bytes[length++] = '0';
+                    bytes[length++] = '0';
+                    bytes[length++] = HEX[c >> 4];
+                    bytes[length++] = HEX[c & 0xF];
+                }
+            }
+        }
+
+        private void reverse(int from, int to) {
+            while (from < to) {
+                byte tmp = bytes[from];
+                bytes[from++] = bytes[to];
+                bytes[to--] = tmp;
+            }
+        }
+
+        private void ensure(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+            }
+        }
+    }
+}
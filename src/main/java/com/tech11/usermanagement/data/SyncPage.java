@@ -0,0 +1,62 @@
+package com.tech11.usermanagement.data;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of an incremental sync")
+public class SyncPage<T> {
+
+    @Schema(description = "Items changed after the requested position, oldest first")
+    private List<T> data;
+
+    @Schema(description = "Position after the last item; pass it as cursor to continue", example = "MjAyNS0wNy0wNFQxMjowMHw1NTBlODQwMGUyOWI0MWQ0YTcxNjQ0NjY1NTQ0MDAwMA")
+    private String nextCursor;
+
+    @Schema(description = "Whether more changes follow this page", example = "false")
+    private boolean hasMore;
+
+    // Default constructor
+    public SyncPage() {}
+
+    // Constructor with all fields
+    public SyncPage(List<T> data, String nextCursor, boolean hasMore) {
+        this.data = data;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<T> getData() {
+        return data;
+    }
+
+    public void setData(List<T> data) {
+        this.data = data;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncPage{" +
+                "data=" + data +
+                ", nextCursor='" + nextCursor + '\'' +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
@@ -0,0 +1,53 @@
+package com.tech11.usermanagement.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Request object for verifying user credentials")
+public class AuthenticateRequest {
+
+    @Schema(description = "User's email address", example = "john.doe@example.com", required = true)
+    @NotBlank(message = "Email is required")
+    @Size(max = 255, message = "Email must not exceed 255 characters")
+    private String email;
+
+    @Schema(description = "User's password", example = "securePassword123", required = true)
+    @NotBlank(message = "Password is required")
+    @Size(max = 255, message = "Password must not exceed 255 characters")
+    private String password;
+
+    // Default constructor
+    public AuthenticateRequest() {}
+
+    // Constructor with all fields
+    public AuthenticateRequest(String email, String password) {
+        this.email = email;
+        this.password = password;
+    }
+
+    // Getters and Setters
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticateRequest{" +
+                "email='" + email + '\'' +
+                ", password='[HIDDEN]'" +
+                '}';
+    }
+}
@@ -0,0 +1,40 @@
+package com.tech11.usermanagement.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request object for fetching several users by ID")
+public class BatchGetUsersRequest {
+
+    @Schema(description = "User IDs to fetch, at most 500", example = "[\"550e8400e29b41d4a716446655440000\"]", required = true)
+    @NotEmpty(message = "At least one ID is required")
+    @Size(max = 500, message = "At most 500 IDs can be fetched at once")
+    private List<String> ids;
+
+    // Default constructor
+    public BatchGetUsersRequest() {}
+
+    // Constructor with IDs
+    public BatchGetUsersRequest(List<String> ids) {
+        this.ids = ids;
+    }
+
+    // Getters and Setters
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchGetUsersRequest{" +
+                "ids=" + ids +
+                '}';
+    }
+}
@@ -0,0 +1,89 @@
+package com.tech11.usermanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "One entry of the user change feed")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserChange {
+
+    @Schema(description = "Position in the feed; pass it as since to resume after this change", example = "42")
+    private long cursor;
+
+    @Schema(description = "Kind of change", example = "UPDATED", allowableValues = {"CREATED", "UPDATED", "DELETED"})
+    private String type;
+
+    @Schema(description = "ID of the changed user", example = "550e8400e29b41d4a716446655440000")
+    private String id;
+
+    @Schema(description = "The user after the change, absent for deletions")
+    private UserResponse user;
+
+    @Schema(description = "When the change was published")
+    private LocalDateTime timestamp;
+
+    // Default constructor
+    public UserChange() {}
+
+    // Constructor with all fields
+    public UserChange(long cursor, String type, String id, UserResponse user, LocalDateTime timestamp) {
+        this.cursor = cursor;
+        this.type = type;
+        this.id = id;
+        this.user = user;
+        this.timestamp = timestamp;
+    }
+
+    // Getters and Setters
+    public long getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(long cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public UserResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "UserChange{" +
+                "cursor=" + cursor +
+                ", type='" + type + '\'' +
+                ", id='" + id + '\'' +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
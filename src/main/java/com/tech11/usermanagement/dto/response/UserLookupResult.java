@@ -0,0 +1,69 @@
+package com.tech11.usermanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of looking up one ID in a batch request")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserLookupResult {
+
+    @Schema(description = "Requested user ID", example = "550e8400e29b41d4a716446655440000")
+    private String id;
+
+    @Schema(description = "Whether a user exists with this ID", example = "true")
+    private boolean found;
+
+    @Schema(description = "The user, absent when not found")
+    private UserResponse user;
+
+    // Default constructor
+    public UserLookupResult() {}
+
+    // Constructor with all fields
+    public UserLookupResult(String id, boolean found, UserResponse user) {
+        this.id = id;
+        this.found = found;
+        this.user = user;
+    }
+
+    public static UserLookupResult found(String id, UserResponse user) {
+        return new UserLookupResult(id, true, user);
+    }
+
+    public static UserLookupResult notFound(String id) {
+        return new UserLookupResult(id, false, null);
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public UserResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+
+    @Override
+    public String toString() {
+        return "UserLookupResult{" +
+                "id='" + id + '\'' +
+                ", found=" + found +
+                '}';
+    }
+}
@@ -32,6 +32,9 @@ public class UserResponse {
     @Schema(description = "Entity version for optimistic locking")
     private Long version;
 
+    @Schema(description = "True for users deleted since the requested position of an incremental sync; absent otherwise")
+    private Boolean deleted;
+
     // Default constructor
     public UserResponse() {}
 
@@ -113,6 +116,14 @@ public class UserResponse {
         this.version = version;
     }
 
+    public Boolean getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(Boolean deleted) {
+        this.deleted = deleted;
+    }
+
     @Override
     public String toString() {
         return "UserResponse{" +
@@ -124,6 +135,7 @@ public class UserResponse {
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 ", version=" + version +
+                ", deleted=" + deleted +
                 '}';
     }
 } 
\ No newline at end of file
@@ -3,16 +3,30 @@ package com.tech11.usermanagement.entity;
 import jakarta.persistence.*;
 import jakarta.json.bind.annotation.JsonbProperty;
 import jakarta.json.bind.annotation.JsonbTransient;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Keyset order of incremental sync, see UserRepository#findUpdatedAfter
+        @Index(name = "idx_users_updated_at_id", columnList = "updated_at, id"),
+        // Sorted browsing, see UserSort
+        @Index(name = "idx_users_last_first_created", columnList = "last_name, first_name, created_at DESC, id DESC"),
+        @Index(name = "idx_users_first_last_id", columnList = "first_name, last_name, id"),
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
+})
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entity.User")
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     @Column(columnDefinition = "UUID")
     @JsonbTransient
     private UUID id;
@@ -26,7 +40,9 @@ public class User {
     @Column(name = "email", nullable = false, unique = true)
     private String email;
 
+    // Re-encoding the hash is not a change of the user, see UserRepository#rehashPassword
     @Column(name = "password", nullable = false)
+    @OptimisticLock(excluded = true)
     private String password;
 
     @Column(name = "birthday", nullable = false)
@@ -35,7 +51,7 @@ public class User {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     @Version
@@ -45,6 +61,8 @@ public class User {
     // Default constructor
     public User() {
         this.createdAt = LocalDateTime.now();
+        // A new user counts as changed at creation, so incremental sync picks it up
+        this.updatedAt = this.createdAt;
     }
 
     // Constructor with required fields
@@ -138,12 +156,6 @@ public class User {
         this.version = version;
     }
 
-    // Lifecycle methods
-    @PreUpdate
-    public void preUpdate() {
-        this.updatedAt = LocalDateTime.now();
-    }
-
     @Override
     public String toString() {
         return "User{" +
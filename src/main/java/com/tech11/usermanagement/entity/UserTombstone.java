@@ -0,0 +1,77 @@
+package com.tech11.usermanagement.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Record of a deleted user, kept so incremental sync can report deletions.
+ * Written in the same transaction as the delete.
+ */
+@Entity
+@Table(name = "user_tombstones", indexes = {
+        @Index(name = "idx_user_tombstones_deleted_at_id", columnList = "deleted_at, id")
+})
+public class UserTombstone {
+
+    @Id
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Column(name = "version")
+    private Long version;
+
+    // Default constructor
+    public UserTombstone() {}
+
+    // Constructor with all fields
+    public UserTombstone(UUID id, LocalDateTime deletedAt, Long version) {
+        this.id = id;
+        this.deletedAt = deletedAt;
+        this.version = version;
+    }
+
+    // Getters and Setters
+    public UUID getUuidId() {
+        return id;
+    }
+
+    public String getId() {
+        if (id == null) {
+            return null;
+        }
+        return id.toString().replace("-", "");
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public String toString() {
+        return "UserTombstone{" +
+                "id=" + id +
+                ", deletedAt=" + deletedAt +
+                ", version=" + version +
+                '}';
+    }
+}
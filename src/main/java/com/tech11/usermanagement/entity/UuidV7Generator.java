@@ -0,0 +1,74 @@
+package com.tech11.usermanagement.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUID Version 7 Generator
+ *
+ * Generates RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp, then a 12-bit counter
+ * in the {@code rand_a} field, then 62 random bits. New keys therefore land at the right edge of
+ * the primary key index instead of at random pages, which keeps inserts on hot pages as the
+ * table grows, while still being unguessable.
+ *
+ * Timestamp and counter are advanced together with a single compare-and-set, so the IDs of one
+ * generator are strictly increasing without locking: a second ID in the same millisecond
+ * increments the counter, a counter overflow borrows the next millisecond, and a clock that
+ * steps back keeps counting from the last value until it catches up.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+    // Last timestamp and counter, as (millis << COUNTER_BITS) | counter
+    private final AtomicLong last = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    /**
+     * @return a UUID greater than every UUID this generator returned before
+     */
+    public UUID next() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long previous;
+        long next;
+        do {
+            previous = last.get();
+            next = now > previous ? now : previous + 1;
+        } while (!last.compareAndSet(previous, next));
+
+        long millis = next >>> COUNTER_BITS;
+        long counter = next & ((1L << COUNTER_BITS) - 1);
+        long mostSignificant = (millis << 16) | VERSION | counter;
+        long leastSignificant = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
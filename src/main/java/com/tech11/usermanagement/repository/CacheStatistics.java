@@ -0,0 +1,70 @@
+package com.tech11.usermanagement.repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.logging.Logger;
+
+/**
+ * Cache Statistics
+ *
+ * Exports the hit ratios of the {@code entity.User} and {@code query.User} second-level cache
+ * regions as gauges. Hibernate only counts hits and misses while statistics are enabled, which
+ * costs on every cache access, so they are switched on at startup only when
+ * {@code cache.statistics.enabled} is set, e.g. for a load test. Otherwise the gauges read NaN.
+ */
+@ApplicationScoped
+public class CacheStatistics {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheStatistics.class.getName());
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    @Inject
+    @ConfigProperty(name = "cache.statistics.enabled", defaultValue = "false")
+    boolean enabled;
+
+    void start(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        statistics().setStatisticsEnabled(enabled);
+        if (enabled) {
+            LOGGER.info("CacheStatistics: Counting second-level cache hits and misses");
+        }
+    }
+
+    // Metrics, served in the application scope of /metrics
+
+    @Gauge(name = "cache.user.entity.hit.ratio", unit = MetricUnits.NONE,
+            description = "Share of entity.User lookups served from the second-level cache")
+    public double getEntityHitRatio() {
+        return enabled ? hitRatio(statistics().getDomainDataRegionStatistics("entity.User")) : Double.NaN;
+    }
+
+    @Gauge(name = "cache.user.query.hit.ratio", unit = MetricUnits.NONE,
+            description = "Share of query.User lookups served from the query cache")
+    public double getQueryHitRatio() {
+        return enabled ? hitRatio(statistics().getQueryRegionStatistics("query.User")) : Double.NaN;
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        if (region == null) {
+            return Double.NaN;
+        }
+        long lookups = region.getHitCount() + region.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) region.getHitCount() / lookups;
+    }
+}
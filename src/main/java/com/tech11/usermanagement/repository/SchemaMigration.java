@@ -0,0 +1,66 @@
+package com.tech11.usermanagement.repository;
+
+import jakarta.annotation.Priority;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+
+import javax.sql.DataSource;
+import java.util.logging.Logger;
+
+/**
+ * Schema Migration
+ *
+ * Brings the database schema up to date with the versioned scripts in {@code db/migration}
+ * before anything else touches the database. The same scripts run on H2 (in memory or file)
+ * and PostgreSQL, and the applied versions are recorded in the database, so a restart against
+ * a durable database only checks the history and keeps data and indexes.
+ *
+ * Runs first among the startup observers; the background loaders of the user indexes and the
+ * password rehash job start after it. A failed migration fails the application start.
+ */
+@ApplicationScoped
+public class SchemaMigration {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigration.class.getName());
+
+    @Resource(lookup = "jdbc/DefaultDataSource")
+    private DataSource dataSource;
+
+    @Inject
+    @ConfigProperty(name = "schema.migration.enabled", defaultValue = "true")
+    boolean enabled;
+
+    void migrate(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) @Initialized(ApplicationScoped.class) Object event) {
+        if (!enabled) {
+            LOGGER.info("SchemaMigration: Disabled by configuration");
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        MigrateResult result = migrate(dataSource);
+        LOGGER.info("SchemaMigration: Schema at version %s, applied %d migrations in %dms"
+                .formatted(result.targetSchemaVersion != null ? result.targetSchemaVersion : result.initialSchemaVersion,
+                        result.migrationsExecuted, System.currentTimeMillis() - startTime));
+    }
+
+    /**
+     * Apply pending migrations to a data source.
+     *
+     * @return what was applied
+     */
+    static MigrateResult migrate(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                // The scripts must match what ran before; a changed script is an error, not a re-run
+                .validateOnMigrate(true)
+                .load()
+                .migrate();
+    }
+}
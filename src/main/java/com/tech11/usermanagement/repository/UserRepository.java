@@ -1,70 +1,58 @@
 package com.tech11.usermanagement.repository;
 
 import com.tech11.usermanagement.entity.User;
+import com.tech11.usermanagement.entity.UserTombstone;
+import com.tech11.usermanagement.services.LatencySampled;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Repository interface for User entity operations.
  * Provides data access methods using JPA.
+ *
+ * Lookups join a caller's transaction but do not start one, and load entities read-only,
+ * so no snapshots are kept for dirty checking and nothing is flushed for a plain read.
+ * Call latency drives the adaptive concurrency limit in front of the service layer.
  */
 @ApplicationScoped
 @Transactional
+@LatencySampled
 public class UserRepository {
 
-    @PersistenceContext
-    private EntityManager entityManager;
-    
-    private boolean tableInitialized = false;
-    
-    /**
-     * Initialize the database table if it doesn't exist.
-     */
-    private void initializeTableIfNeeded() {
-        if (!tableInitialized) {
-            try {
-                // Drop existing table if it exists (for schema migration)
-                try {
-                    entityManager.createNativeQuery("DROP TABLE IF EXISTS users").executeUpdate();
-                } catch (Exception e) {
-                    // Ignore errors
-                }
-                
-                // Create the table with UUID
-                entityManager.createNativeQuery(
-                    "CREATE TABLE users (" +
-                    "id UUID PRIMARY KEY, " +
-                    "first_name VARCHAR(255) NOT NULL, " +
-                    "last_name VARCHAR(255) NOT NULL, " +
-                    "email VARCHAR(255) NOT NULL UNIQUE, " +
-                    "password VARCHAR(255) NOT NULL, " +
-                    "birthday DATE NOT NULL, " +
-                    "created_at TIMESTAMP NOT NULL, " +
-                    "updated_at TIMESTAMP, " +
-                    "version BIGINT DEFAULT 0" +
-                    ")"
-                ).executeUpdate();
-                
-                tableInitialized = true;
-            } catch (Exception e) {
-                // Table might already exist, mark as initialized
-                tableInitialized = true;
-            }
-        }
-    }
-    
+    /**
+     * Query cache region for count, version and prefix lookups, sized in META-INF/ehcache.xml.
+     */
+    private static final String QUERY_CACHE_REGION = "query.User";
 
-    
+    /**
+     * Attributes that may be selected by projection queries. The password is never projectable.
+     */
+    public static final Set<String> PROJECTABLE_ATTRIBUTES = Set.of(
+            "id", "firstName", "lastName", "email", "birthday", "createdAt", "updatedAt", "version");
 
-    
+    /**
+     * Maximum number of IDs bound into a single IN clause by {@link #findByIds(Collection)}.
+     */
+    static final int IN_CLAUSE_CHUNK_SIZE = 100;
 
+    @PersistenceContext
+    private EntityManager entityManager;
 
     /**
      * Find all users with pagination.
@@ -73,22 +61,168 @@ public class UserRepository {
      * @param size the page size
      * @return list of users for the specified page
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<User> findAll(int page, int size) {
         TypedQuery<User> query = entityManager.createQuery(
                 "SELECT u FROM User u ORDER BY u.id", User.class);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
         query.setFirstResult(page * size);
         query.setMaxResults(size);
         return query.getResultList();
     }
 
+    /**
+     * Find a page of users selecting only the given attributes.
+     * Each tuple element is aliased with its attribute name; no entities are loaded or managed.
+     *
+     * @param attributes the attributes to select, all from {@link #PROJECTABLE_ATTRIBUTES}
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return list of tuples for the specified page
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Tuple> findAllProjected(Collection<String> attributes, int page, int size) {
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "SELECT " + selectClause(attributes) + " FROM User u ORDER BY u.id", Tuple.class);
+        query.setFirstResult(page * size);
+        query.setMaxResults(size);
+        return query.getResultList();
+    }
+
+    /**
+     * Find the users after an ID in ID order, selecting only the given attributes, to read the
+     * whole table in batches. Each batch seeks along the primary key from the last ID of the
+     * previous one, so later batches cost no more than the first, unlike offset pages.
+     *
+     * @param attributes the attributes to select, all from {@link #PROJECTABLE_ATTRIBUTES}
+     * @param afterId the last ID of the previous batch, or null for the first batch
+     * @param limit maximum number of rows to return
+     * @return tuples in ID order
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Tuple> findAllProjectedAfter(Collection<String> attributes, UUID afterId, int limit) {
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "SELECT " + selectClause(attributes) + " FROM User u"
+                        + (afterId == null ? "" : " WHERE u.id > :afterId") + " ORDER BY u.id", Tuple.class);
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    /**
+     * Find users whose attribute starts with a prefix, selecting only the given attributes.
+     *
+     * @param filterAttribute the attribute to match, one of firstName, lastName or email
+     * @param prefix the prefix to search for
+     * @param attributes the attributes to select, all from {@link #PROJECTABLE_ATTRIBUTES}
+     * @return list of tuples ordered by the filtered attribute
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Tuple> findByPrefixProjected(String filterAttribute, String prefix, Collection<String> attributes) {
+        if (!Set.of("firstName", "lastName", "email").contains(filterAttribute)) {
+            throw new IllegalStateException("Attribute is not searchable: " + filterAttribute);
+        }
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "SELECT " + selectClause(attributes) + " FROM User u WHERE u." + filterAttribute
+                        + " LIKE :prefix ORDER BY u." + filterAttribute, Tuple.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setHint(HibernateHints.HINT_CACHE_REGION, QUERY_CACHE_REGION);
+        query.setParameter("prefix", prefix + "%");
+        return query.getResultList();
+    }
+
+    /**
+     * Find the users following a keyset position in a sort order, optionally filtered by a prefix
+     * of the sort's leading attribute so that both are served by the same index range.
+     *
+     * @param sort the sort order
+     * @param filterAttribute the attribute to match, which must lead the sort, or null
+     * @param prefix the prefix to search for, or null
+     * @param after the key values of the last user already seen, in sort key order, or null for the first page
+     * @param limit maximum number of rows to return
+     * @return users in sort order
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<User> findSorted(UserSort sort, String filterAttribute, String prefix, List<Object> after, int limit) {
+        List<UserSort.Key> keys = sort.getKeys();
+        List<String> conditions = new ArrayList<>(2);
+        if (filterAttribute != null) {
+            if (!filterAttribute.equals(sort.getLeadingAttribute())) {
+                throw new IllegalStateException("Filter " + filterAttribute + " does not lead sort " + sort.getRequested());
+            }
+            conditions.add("u." + filterAttribute + " LIKE :prefix");
+        }
+        if (after != null) {
+            // Expanded rather than a row-value comparison, since directions may differ per key. The OR
+            // alone gives the planner no range to seek to; the redundant bound on the first key does
+            UserSort.Key first = keys.get(0);
+            StringBuilder keyset = new StringBuilder("u.").append(first.attribute())
+                    .append(first.descending() ? " <= :k0" : " >= :k0").append(" AND (");
+            for (int i = 0; i < keys.size(); i++) {
+                keyset.append(i == 0 ? "(" : " OR (");
+                for (int j = 0; j < i; j++) {
+                    keyset.append("u.").append(keys.get(j).attribute()).append(" = :k").append(j).append(" AND ");
+                }
+                UserSort.Key key = keys.get(i);
+                keyset.append("u.").append(key.attribute()).append(key.descending() ? " < :k" : " > :k").append(i).append(")");
+            }
+            conditions.add(keyset.append(")").toString());
+        }
+
+        StringBuilder jpql = new StringBuilder("SELECT u FROM User u");
+        if (!conditions.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        jpql.append(" ORDER BY ");
+        for (int i = 0; i < keys.size(); i++) {
+            UserSort.Key key = keys.get(i);
+            jpql.append(i == 0 ? "u." : ", u.").append(key.attribute()).append(key.descending() ? " DESC" : " ASC");
+        }
+
+        TypedQuery<User> query = entityManager.createQuery(jpql.toString(), User.class);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (filterAttribute != null) {
+            query.setParameter("prefix", prefix + "%");
+        }
+        if (after != null) {
+            for (int i = 0; i < keys.size(); i++) {
+                query.setParameter("k" + i, after.get(i));
+            }
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    /**
+     * Build a select clause of aliased attribute paths.
+     */
+    private String selectClause(Collection<String> attributes) {
+        StringBuilder select = new StringBuilder();
+        for (String attribute : attributes) {
+            if (!PROJECTABLE_ATTRIBUTES.contains(attribute)) {
+                throw new IllegalStateException("Attribute is not projectable: " + attribute);
+            }
+            if (select.length() > 0) {
+                select.append(", ");
+            }
+            select.append("u.").append(attribute).append(" AS ").append(attribute);
+        }
+        return select.toString();
+    }
+
     /**
      * Count total number of users.
      *
      * @return total count of users
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public long count() {
         TypedQuery<Long> query = entityManager.createQuery(
                 "SELECT COUNT(u) FROM User u", Long.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setHint(HibernateHints.HINT_CACHE_REGION, QUERY_CACHE_REGION);
         return query.getSingleResult();
     }
 
@@ -98,20 +232,62 @@ public class UserRepository {
      * @param id the user ID
      * @return Optional containing the user if found
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public Optional<User> findById(UUID id) {
-        User user = entityManager.find(User.class, id);
+        User user = entityManager.find(User.class, id, Map.of(HibernateHints.HINT_READ_ONLY, true));
         return Optional.ofNullable(user);
     }
 
+    /**
+     * Find users by ID with one IN query per {@value #IN_CLAUSE_CHUNK_SIZE} IDs.
+     * Results come back in no particular order; IDs without a user are simply absent.
+     *
+     * @param ids the user IDs, without duplicates
+     * @return the users found
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<User> findByIds(Collection<UUID> ids) {
+        List<UUID> idList = List.copyOf(ids);
+        List<User> users = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<UUID> chunk = idList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size()));
+            TypedQuery<User> query = entityManager.createQuery(
+                    "SELECT u FROM User u WHERE u.id IN :ids", User.class);
+            query.setHint(HibernateHints.HINT_READ_ONLY, true);
+            query.setParameter("ids", chunk);
+            users.addAll(query.getResultList());
+        }
+        return users;
+    }
+
+    /**
+     * Find the current version of a user without loading the entity.
+     *
+     * @param id the user ID
+     * @return Optional containing the version if the user exists
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public Optional<Long> findVersionById(UUID id) {
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT u.version FROM User u WHERE u.id = :id", Long.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setHint(HibernateHints.HINT_CACHE_REGION, QUERY_CACHE_REGION);
+        query.setParameter("id", id);
+        List<Long> results = query.getResultList();
+        return results.isEmpty() ? Optional.empty() : Optional.ofNullable(results.get(0));
+    }
+
     /**
      * Find user by email.
      *
      * @param email the user email
      * @return Optional containing the user if found
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public Optional<User> findByEmail(String email) {
         TypedQuery<User> query = entityManager.createQuery(
                 "SELECT u FROM User u WHERE u.email = :email", User.class);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
         query.setParameter("email", email);
         List<User> results = query.getResultList();
         return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
@@ -136,22 +312,200 @@ public class UserRepository {
      * @return the updated user
      */
     public User update(User user) {
+        user.setUpdatedAt(LocalDateTime.now());
         return entityManager.merge(user);
     }
 
     /**
-     * Delete a user by ID.
+     * Update only the given attributes of a user. The user is loaded as a managed entity,
+     * usually from the second-level cache, and flushed as a single-row UPDATE of the changed
+     * columns that increments the version and checks it, so only this user's cache entry is
+     * replaced. When an expected version is supplied, a user at another version is not changed.
+     *
+     * @param id the user ID
+     * @param changes attribute names mapped to their new values
+     * @param expectedVersion the version the caller last saw, or null to skip the check
+     * @return Optional containing the updated user, empty if not found or at another version
+     * @throws jakarta.persistence.OptimisticLockException if the user was changed concurrently
+     */
+    public Optional<User> updateFields(UUID id, Map<String, Object> changes, Long expectedVersion) {
+        if (changes.isEmpty()) {
+            return findById(id)
+                    .filter(user -> expectedVersion == null || expectedVersion.equals(user.getVersion()));
+        }
+
+        Optional<User> userOpt = findManaged(id, expectedVersion);
+        if (userOpt.isEmpty()) {
+            return userOpt;
+        }
+        User user = userOpt.get();
+        changes.forEach((attribute, value) -> {
+            switch (attribute) {
+                case "firstName" -> user.setFirstName((String) value);
+                case "lastName" -> user.setLastName((String) value);
+                case "email" -> user.setEmail((String) value);
+                case "password" -> user.setPassword((String) value);
+                case "birthday" -> user.setBirthday((LocalDate) value);
+                default -> throw new IllegalStateException("Attribute is not updatable: " + attribute);
+            }
+        });
+        user.setUpdatedAt(LocalDateTime.now());
+        entityManager.flush();
+        return userOpt;
+    }
+
+    /**
+     * Replace a user's password.
+     *
+     * @param id the user ID
+     * @param password the new password value to store
+     * @param expectedVersion the version the caller last saw, or null to skip the check
+     * @return Optional containing the updated user, empty if not found or at another version
+     * @see #updateFields(UUID, Map, Long)
+     */
+    public Optional<User> updatePassword(UUID id, String password, Long expectedVersion) {
+        return updateFields(id, Map.of("password", password), expectedVersion);
+    }
+
+    /**
+     * Replace a stored password hash with a re-encoded one, only if it has not changed meanwhile.
+     * Version and update time are left alone because the user's data is unchanged; the password
+     * is excluded from optimistic locking, so the single-row UPDATE writes the hash alone.
+     *
+     * @param id the user ID
+     * @param currentHash the stored value the new hash was derived from
+     * @param newHash the re-encoded hash
+     * @return true if the hash was replaced
+     */
+    public boolean rehashPassword(UUID id, String currentHash, String newHash) {
+        User user = entityManager.find(User.class, id);
+        if (user == null || !currentHash.equals(user.getPassword())) {
+            return false;
+        }
+        user.setPassword(newHash);
+        entityManager.flush();
+        return true;
+    }
+
+    /**
+     * Find users whose stored password is not in the given format, as (id, password) tuples.
+     *
+     * @param formatPrefix prefix shared by all values in the wanted format
+     * @param limit maximum number of rows to return
+     * @return tuples aliased "id" and "password"
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Tuple> findPasswordsNotInFormat(String formatPrefix, int limit) {
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "SELECT u.id AS id, u.password AS password FROM User u WHERE u.password NOT LIKE :prefix ESCAPE '!'",
+                Tuple.class);
+        query.setParameter("prefix", formatPrefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%");
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    /**
+     * Delete a user by ID, leaving a tombstone for incremental sync.
      *
      * @param id the user ID to delete
      * @return true if user was deleted, false if not found
      */
     public boolean deleteById(UUID id) {
-        Optional<User> userOpt = findById(id);
-        if (userOpt.isPresent()) {
-            entityManager.remove(userOpt.get());
-            return true;
+        return delete(findManaged(id, null));
+    }
+
+    /**
+     * Delete a user by ID if it is still at the version the caller last saw.
+     * The DELETE checks the version as well, so a concurrent write is not lost.
+     *
+     * @param id the user ID to delete
+     * @param expectedVersion the version the caller last saw
+     * @return true if user was deleted, false if not found or the version did not match
+     * @throws jakarta.persistence.OptimisticLockException if the user was changed concurrently
+     */
+    public boolean deleteById(UUID id, Long expectedVersion) {
+        return delete(findManaged(id, expectedVersion));
+    }
+
+    private boolean delete(Optional<User> userOpt) {
+        if (userOpt.isEmpty()) {
+            return false;
+        }
+        User user = userOpt.get();
+        entityManager.remove(user);
+        entityManager.persist(new UserTombstone(user.getUuidId(), LocalDateTime.now(), user.getVersion()));
+        entityManager.flush();
+        return true;
+    }
+
+    /**
+     * Load a user as a managed entity for a single-row write, served from the second-level
+     * cache when present. Unlike a bulk statement, the write then replaces only this user's
+     * cache entry instead of evicting the whole region.
+     *
+     * @param id the user ID
+     * @param expectedVersion the version the caller last saw, or null to skip the check
+     * @return Optional containing the user, empty if not found or at another version
+     */
+    private Optional<User> findManaged(UUID id, Long expectedVersion) {
+        return Optional.ofNullable(entityManager.find(User.class, id))
+                .filter(user -> expectedVersion == null || expectedVersion.equals(user.getVersion()));
+    }
+
+    /**
+     * Find users changed after a keyset position, in (updatedAt, id) order, using the
+     * (updated_at, id) index. Without an ID the position itself is included, so a plain
+     * timestamp means "changed at or after".
+     *
+     * @param after the update time of the last row already seen
+     * @param afterId the ID of the last row already seen, or null to start at {@code after}
+     * @param until only rows updated at or before this time are returned
+     * @param limit maximum number of rows to return
+     * @return users in keyset order
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<User> findUpdatedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit) {
+        TypedQuery<User> query = entityManager.createQuery(
+                "SELECT u FROM User u WHERE " + keysetCondition("u.updatedAt", "u.id", afterId)
+                        + " AND u.updatedAt <= :until ORDER BY u.updatedAt, u.id", User.class);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        bindKeyset(query, after, afterId, until);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    /**
+     * Find tombstones of users deleted after a keyset position, in (deletedAt, id) order.
+     *
+     * @see #findUpdatedAfter(LocalDateTime, UUID, LocalDateTime, int)
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<UserTombstone> findDeletedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit) {
+        TypedQuery<UserTombstone> query = entityManager.createQuery(
+                "SELECT t FROM UserTombstone t WHERE " + keysetCondition("t.deletedAt", "t.id", afterId)
+                        + " AND t.deletedAt <= :until ORDER BY t.deletedAt, t.id", UserTombstone.class);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        bindKeyset(query, after, afterId, until);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    private static String keysetCondition(String timeAttribute, String idAttribute, UUID afterId) {
+        if (afterId == null) {
+            return timeAttribute + " >= :after";
+        }
+        // Row-value comparisons are not portable JPQL, so the position is spelled out. The OR alone
+        // gives the planner no range to seek to; the redundant leading bound starts the index scan there
+        return timeAttribute + " >= :after AND (" + timeAttribute + " > :after OR "
+                + idAttribute + " > :afterId)";
+    }
+
+    private static void bindKeyset(Query query, LocalDateTime after, UUID afterId, LocalDateTime until) {
+        query.setParameter("after", after);
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
         }
-        return false;
+        query.setParameter("until", until);
     }
 
     /**
@@ -160,8 +514,8 @@ public class UserRepository {
      * @param email the email to check
      * @return true if user exists, false otherwise
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public boolean existsByEmail(String email) {
-        initializeTableIfNeeded();
         TypedQuery<Long> query = entityManager.createQuery(
                 "SELECT COUNT(u) FROM User u WHERE u.email = :email", Long.class);
         query.setParameter("email", email);
@@ -175,6 +529,7 @@ public class UserRepository {
      * @param excludeId the user ID to exclude from the check
      * @return true if user exists, false otherwise
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public boolean existsByEmailExceptId(String email, UUID excludeId) {
         TypedQuery<Long> query = entityManager.createQuery(
                 "SELECT COUNT(u) FROM User u WHERE u.email = :email AND u.id != :excludeId", Long.class);
@@ -189,9 +544,11 @@ public class UserRepository {
      * @param firstName the first name to search for
      * @return list of users with matching first name
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<User> findByFirstName(String firstName) {
         TypedQuery<User> query = entityManager.createQuery(
                 "SELECT u FROM User u WHERE u.firstName = :firstName", User.class);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
         query.setParameter("firstName", firstName);
         return query.getResultList();
     }
@@ -202,9 +559,11 @@ public class UserRepository {
      * @param lastName the last name to search for
      * @return list of users with matching last name
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<User> findByLastName(String lastName) {
         TypedQuery<User> query = entityManager.createQuery(
                 "SELECT u FROM User u WHERE u.lastName = :lastName", User.class);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
         query.setParameter("lastName", lastName);
         return query.getResultList();
     }
@@ -216,9 +575,11 @@ public class UserRepository {
      * @param lastName the last name to search for
      * @return list of users with matching first and last name
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<User> findByFirstNameAndLastName(String firstName, String lastName) {
         TypedQuery<User> query = entityManager.createQuery(
                 "SELECT u FROM User u WHERE u.firstName = :firstName AND u.lastName = :lastName", User.class);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
         query.setParameter("firstName", firstName);
         query.setParameter("lastName", lastName);
         return query.getResultList();
@@ -232,9 +593,13 @@ public class UserRepository {
      * @param firstNamePrefix the first name prefix to search for (minimum 3 characters recommended)
      * @return list of users with matching first name prefix
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<User> findByFirstNameStartingWith(String firstNamePrefix) {
         TypedQuery<User> query = entityManager.createQuery(
                 "SELECT u FROM User u WHERE u.firstName LIKE :firstNamePrefix ORDER BY u.firstName", User.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setHint(HibernateHints.HINT_CACHE_REGION, QUERY_CACHE_REGION);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
         query.setParameter("firstNamePrefix", firstNamePrefix + "%");
         return query.getResultList();
     }
@@ -247,9 +612,13 @@ public class UserRepository {
      * @param lastNamePrefix the last name prefix to search for (minimum 3 characters recommended)
      * @return list of users with matching last name prefix
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<User> findByLastNameStartingWith(String lastNamePrefix) {
         TypedQuery<User> query = entityManager.createQuery(
                 "SELECT u FROM User u WHERE u.lastName LIKE :lastNamePrefix ORDER BY u.lastName", User.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setHint(HibernateHints.HINT_CACHE_REGION, QUERY_CACHE_REGION);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
         query.setParameter("lastNamePrefix", lastNamePrefix + "%");
         return query.getResultList();
     }
@@ -262,9 +631,13 @@ public class UserRepository {
      * @param emailPrefix the email prefix to search for (minimum 3 characters recommended)
      * @return list of users with matching email prefix
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<User> findByEmailStartingWith(String emailPrefix) {
         TypedQuery<User> query = entityManager.createQuery(
                 "SELECT u FROM User u WHERE u.email LIKE :emailPrefix ORDER BY u.email", User.class);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setHint(HibernateHints.HINT_CACHE_REGION, QUERY_CACHE_REGION);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
         query.setParameter("emailPrefix", emailPrefix + "%");
         return query.getResultList();
     }
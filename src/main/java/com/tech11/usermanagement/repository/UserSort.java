@@ -0,0 +1,179 @@
+package com.tech11.usermanagement.repository;
+
+import com.tech11.usermanagement.entity.User;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A sort order for browsing users, restricted to orders an index can deliver.
+ *
+ * A requested sort such as {@code lastName,firstName,-createdAt} is accepted only if it is a
+ * prefix of one of the indexed orders below, or of one read backwards. The query then orders by
+ * the whole indexed order, which refines the requested one and ends in a unique key, so the
+ * database reads rows in index order without sorting and pages can continue from a keyset
+ * cursor instead of an offset.
+ */
+public final class UserSort {
+
+    /**
+     * One sort key: an entity attribute and its direction.
+     */
+    public record Key(String attribute, boolean descending) {
+
+        Key reversed() {
+            return new Key(attribute, !descending);
+        }
+
+        @Override
+        public String toString() {
+            return descending ? "-" + attribute : attribute;
+        }
+    }
+
+    /**
+     * Orders backed by an index on the users table, see the indexes on {@link User}.
+     */
+    private static final List<List<Key>> INDEXED_ORDERS = List.of(
+            keys("lastName", "firstName", "-createdAt", "-id"),
+            keys("firstName", "lastName", "id"),
+            keys("email"),
+            keys("createdAt", "id"),
+            keys("updatedAt", "id"),
+            keys("id"));
+
+    private final String requested;
+    private final List<Key> keys;
+
+    private UserSort(String requested, List<Key> keys) {
+        this.requested = requested;
+        this.keys = keys;
+    }
+
+    /**
+     * Parse a comma-separated sort, each attribute optionally prefixed with {@code -} for descending.
+     *
+     * @throws IllegalArgumentException if the sort is malformed or no index supports it
+     */
+    public static UserSort parse(String sort) {
+        if (sort == null || sort.isBlank()) {
+            throw new IllegalArgumentException("Sort must not be empty");
+        }
+        List<Key> requestedKeys = keys(sort.split(","));
+        for (List<Key> order : INDEXED_ORDERS) {
+            if (startsWith(order, requestedKeys)) {
+                return new UserSort(join(requestedKeys), order);
+            }
+            List<Key> reversed = order.stream().map(Key::reversed).toList();
+            if (startsWith(reversed, requestedKeys)) {
+                return new UserSort(join(requestedKeys), reversed);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + sort.trim() + ". Supported: " + supported());
+    }
+
+    /**
+     * @return the sort as requested, in canonical form
+     */
+    public String getRequested() {
+        return requested;
+    }
+
+    /**
+     * @return the full order used by the query, ending in a unique key
+     */
+    public List<Key> getKeys() {
+        return keys;
+    }
+
+    public String getLeadingAttribute() {
+        return keys.get(0).attribute();
+    }
+
+    /**
+     * Encode the position after a user as an opaque cursor bound to this sort.
+     */
+    public String encodeCursor(User last) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        StringBuilder cursor = new StringBuilder(encoder.encodeToString(requested.getBytes(StandardCharsets.UTF_8)));
+        for (Key key : keys) {
+            String value = switch (key.attribute()) {
+                case "id" -> last.getId();
+                case "firstName" -> last.getFirstName();
+                case "lastName" -> last.getLastName();
+                case "email" -> last.getEmail();
+                case "createdAt" -> last.getCreatedAt().toString();
+                case "updatedAt" -> last.getUpdatedAt().toString();
+                default -> throw new IllegalStateException("Attribute is not sortable: " + key.attribute());
+            };
+            cursor.append('.').append(encoder.encodeToString(value.getBytes(StandardCharsets.UTF_8)));
+        }
+        return cursor.toString();
+    }
+
+    /**
+     * Decode a cursor into the key values of the last user already seen, in {@link #getKeys()} order.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort
+     */
+    public List<Object> decodeCursor(String cursor) {
+        String[] parts = cursor.split("\\.", -1);
+        if (parts.length != keys.size() + 1 || !requested.equals(decode(parts[0]))) {
+            throw new IllegalArgumentException("Cursor does not belong to sort " + requested);
+        }
+        List<Object> values = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            String value = decode(parts[i + 1]);
+            values.add(switch (keys.get(i).attribute()) {
+                case "id" -> hexToUuid(value);
+                case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+                default -> value;
+            });
+        }
+        return values;
+    }
+
+    private static String decode(String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+
+    private static UUID hexToUuid(String hex) {
+        if (hex.length() != 32) {
+            throw new IllegalArgumentException("Malformed ID in cursor");
+        }
+        return new UUID(Long.parseUnsignedLong(hex.substring(0, 16), 16), Long.parseUnsignedLong(hex.substring(16), 16));
+    }
+
+    private static List<Key> keys(String... specs) {
+        List<Key> keys = new ArrayList<>(specs.length);
+        for (String spec : specs) {
+            String trimmed = spec.trim();
+            boolean descending = trimmed.startsWith("-");
+            String attribute = descending ? trimmed.substring(1).trim() : trimmed;
+            if (attribute.isEmpty()) {
+                throw new IllegalArgumentException("Sort contains an empty attribute");
+            }
+            keys.add(new Key(attribute, descending));
+        }
+        return List.copyOf(keys);
+    }
+
+    private static boolean startsWith(List<Key> order, List<Key> prefix) {
+        return prefix.size() <= order.size() && order.subList(0, prefix.size()).equals(prefix);
+    }
+
+    private static String join(List<Key> keys) {
+        return String.join(",", keys.stream().map(Key::toString).toList());
+    }
+
+    private static String supported() {
+        // The trailing ID only breaks ties, so it is left out of the listing
+        return String.join("; ", INDEXED_ORDERS.stream()
+                .map(order -> join(order.size() > 1 ? order.subList(0, order.size() - 1) : order))
+                .toList()) + " (or a prefix of one, optionally with every direction reversed)";
+    }
+}
@@ -0,0 +1,134 @@
+package com.tech11.usermanagement.resource;
+
+import com.tech11.usermanagement.config.CompressionInterceptor;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Response;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Builds and compares entity tags for user representations.
+ * A single user's tag is derived from its ID and version, so it changes on every write
+ * and can be computed from the version column alone.
+ * Tags of compressed representations carry the content coding as a suffix, which is
+ * ignored when comparing.
+ */
+final class EntityTags {
+
+    private static final List<String> CODING_SUFFIXES = List.of(
+            "-" + CompressionInterceptor.GZIP, "-" + CompressionInterceptor.DEFLATE);
+
+    private EntityTags() {
+    }
+
+    /**
+     * Strong tag for a single user.
+     *
+     * @param id the user ID as hex string
+     * @param version the user version
+     * @return entity tag of the form "id-version"
+     */
+    static EntityTag forUser(String id, Long version) {
+        return new EntityTag(id.toLowerCase(Locale.ROOT) + "-" + (version == null ? 0 : version));
+    }
+
+    /**
+     * Weak tag for a page of users, derived from the page position and the content of every item.
+     *
+     * @param users the users in the page
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @param totalElements total number of matching users
+     * @return weak entity tag for the page
+     */
+    static EntityTag forPage(List<UserResponse> users, int page, int size, long totalElements) {
+        long hash = Objects.hash(page, size, totalElements);
+        for (UserResponse user : users) {
+            hash = 31 * hash + Objects.hash(
+                    user.getId(),
+                    user.getFirstName(),
+                    user.getLastName(),
+                    user.getEmail(),
+                    user.getBirthday(),
+                    user.getCreatedAt(),
+                    user.getUpdatedAt(),
+                    user.getVersion());
+        }
+        return new EntityTag(Long.toHexString(hash), true);
+    }
+
+    /**
+     * Check an If-None-Match header against a tag using weak comparison.
+     *
+     * @param header the raw header value, may be null
+     * @param tag the current tag of the resource
+     * @return true if any of the listed tags matches
+     */
+    static boolean matchesAny(String header, EntityTag tag) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        if (header.trim().equals("*")) {
+            return true;
+        }
+        for (String candidate : header.split(",")) {
+            if (tag.getValue().equals(opaqueValue(candidate))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extract the version a client expects from an If-Match header.
+     *
+     * @param header the raw header value, may be null
+     * @param id the user ID the request targets
+     * @return the expected version, or null when the header is absent or "*"
+     * @throws ClientErrorException with status 412 when no listed strong tag belongs to the user
+     */
+    static Long expectedVersion(String header, String id) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String prefix = id.toLowerCase(Locale.ROOT) + "-";
+        for (String candidate : header.split(",")) {
+            if (candidate.trim().startsWith("W/")) {
+                // If-Match uses strong comparison, so a weak tag never matches
+                continue;
+            }
+            String value = opaqueValue(candidate);
+            if (value.startsWith(prefix)) {
+                try {
+                    return Long.parseLong(value.substring(prefix.length()));
+                } catch (NumberFormatException e) {
+                    // Not one of our tags, keep looking
+                }
+            }
+        }
+        throw new ClientErrorException("Entity tag does not match user: " + id, Response.Status.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Strip the weak prefix, quotes and any content-coding suffix from a single tag in a header list.
+     */
+    private static String opaqueValue(String candidate) {
+        String value = candidate.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        for (String suffix : CODING_SUFFIXES) {
+            if (value.endsWith(suffix)) {
+                return value.substring(0, value.length() - suffix.length());
+            }
+        }
+        return value;
+    }
+}
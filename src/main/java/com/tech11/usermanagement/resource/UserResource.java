@@ -1,11 +1,22 @@
 package com.tech11.usermanagement.resource;
 
+import com.tech11.usermanagement.config.CborMessageBodyWriter;
+import com.tech11.usermanagement.config.RequestExecutor;
+import com.tech11.usermanagement.config.UserResponseJsonWriter;
 import com.tech11.usermanagement.data.ApiResponse;
 import com.tech11.usermanagement.data.PaginatedResponse;
+import com.tech11.usermanagement.data.SyncPage;
+import com.tech11.usermanagement.dto.request.AuthenticateRequest;
+import com.tech11.usermanagement.dto.request.BatchGetUsersRequest;
 import com.tech11.usermanagement.dto.request.CreateUserRequest;
 import com.tech11.usermanagement.dto.request.ResetPasswordRequest;
 import com.tech11.usermanagement.dto.request.UpdateUserRequest;
+import com.tech11.usermanagement.dto.response.UserChange;
+import com.tech11.usermanagement.dto.response.UserLookupResult;
 import com.tech11.usermanagement.dto.response.UserResponse;
+import com.tech11.usermanagement.services.UserChangeFeed;
+import com.tech11.usermanagement.services.UserPrefixIndex;
+import com.tech11.usermanagement.services.UserSearchIndex;
 import com.tech11.usermanagement.services.UserService;
 import com.tech11.usermanagement.dto.response.ErrorResponse;
 
@@ -17,27 +28,57 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 /**
  * REST resource for user management operations.
  * Provides endpoints for CRUD operations on users.
+ * Endpoints return a {@link CompletionStage}; where the blocking service call runs is decided by
+ * {@link RequestExecutor} according to {@code rest.execution.mode}.
+ * Responses are JSON by default, or CBOR for clients that send {@code Accept: application/cbor}.
  */
 @Path("/api/users")
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR + ";qs=0.9"})
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "User Management", description = "Operations for managing users")
 public class UserResource {
 
+    /**
+     * Response headers of incremental sync pages.
+     */
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String HAS_MORE_HEADER = "X-Has-More";
+
     @Inject
     private UserService userService;
 
+    @Inject
+    private RequestExecutor requestExecutor;
+
+    @Inject
+    private UserChangeFeed userChangeFeed;
+
+    @Inject
+    private UserPrefixIndex userPrefixIndex;
+
+    @Inject
+    private UserSearchIndex userSearchIndex;
+
     @GET
     @Path("/health")
+    @Produces(MediaType.APPLICATION_JSON)
     @Operation(
             summary = "Health check",
             description = "Simple health check endpoint for monitoring"
@@ -57,7 +98,9 @@ public class UserResource {
     @GET
     @Operation(
             summary = "Get all users",
-            description = "Retrieve a paginated list of users with optional search filters. You can search by firstName, lastName, or email using partial matching. Only one filter can be used at a time."
+            description = "Retrieve a paginated list of users with optional search filters. You can search by firstName, lastName, or email using partial matching. Only one filter can be used at a time. Use fields to return only selected attributes. "
+                    + "With updatedSince or cursor, returns users created, updated or deleted since then instead, oldest first; deleted users are marked deleted=true. Continue with the cursor from the " + NEXT_CURSOR_HEADER + " header while " + HAS_MORE_HEADER + " is true. "
+                    + "With sort, returns users in that order with the same cursor paging; a filter must be on the sort's leading attribute."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -68,6 +111,10 @@ public class UserResource {
                             schema = @Schema(implementation = PaginatedResponse.class)
                     )
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "Page unchanged since the tag sent in If-None-Match"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "400",
                     description = "Invalid pagination parameters",
@@ -87,7 +134,7 @@ public class UserResource {
                     )
             )
     })
-    public Response getAllUsers(
+    public CompletionStage<Response> getAllUsers(
             @Parameter(description = "First name filter (partial match)", example = "John")
             @QueryParam("firstName") String firstName,
             @Parameter(description = "Last name filter (partial match)", example = "Doe")
@@ -97,32 +144,95 @@ public class UserResource {
             @Parameter(description = "Page number (0-based)", example = "0")
             @QueryParam("page") @DefaultValue("0") int page,
             @Parameter(description = "Page size", example = "10")
-            @QueryParam("size") @DefaultValue("10") int size) {
+            @QueryParam("size") @DefaultValue("10") int size,
+            @Parameter(description = "Comma-separated fields to return; all fields when omitted", example = "id,firstName,email")
+            @QueryParam("fields") String fields,
+            @Parameter(description = "Return changes at or after this ISO local date-time instead of a page", example = "2025-07-04T00:00:00")
+            @QueryParam("updatedSince") String updatedSince,
+            @Parameter(description = "Continue an incremental sync or a sorted listing from a previous " + NEXT_CURSOR_HEADER + " header")
+            @QueryParam("cursor") String cursor,
+            @Parameter(description = "Comma-separated sort attributes, - for descending; only index-backed orders are accepted", example = "lastName,firstName,-createdAt")
+            @QueryParam("sort") String sort,
+            @Parameter(description = "Entity tag of a previously fetched page")
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
 
-        long startTime = System.currentTimeMillis();
-        PaginatedResponse<UserResponse> paginatedData = userService.getAllUsers(firstName, lastName, email, page, size);
-        long processingTime = System.currentTimeMillis() - startTime;
-        
-        // Create custom response with just the user list data
+        if (sort != null) {
+            if (updatedSince != null || fields != null || page != 0) {
+                throw new BadRequestException("sort cannot be combined with updatedSince, fields or page; continue with cursor");
+            }
+            return getSortedUsers(sort, cursor, firstName, lastName, email, size);
+        }
+        if (updatedSince != null || cursor != null) {
+            if (firstName != null || lastName != null || email != null || fields != null || page != 0) {
+                throw new BadRequestException("updatedSince and cursor cannot be combined with filters, fields or page");
+            }
+            return getChangesSince(updatedSince, cursor, size);
+        }
+
+        return requestExecutor.supply(() -> {
+            long startTime = System.currentTimeMillis();
+            PaginatedResponse<UserResponse> paginatedData = userService.getAllUsers(firstName, lastName, email, page, size, fields);
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            EntityTag etag = EntityTags.forPage(paginatedData.getData(), page, size, paginatedData.getTotalElements());
+            if (EntityTags.matchesAny(ifNoneMatch, etag)) {
+                return Response.notModified(etag).build();
+            }
+
+            // Create custom response with just the user list data
+            ApiResponse<List<UserResponse>> response = new ApiResponse<>(
+                200, 
+                "Success (in " + processingTime + "ms)", 
+                paginatedData.getData(), 
+                processingTime
+            );
+
+            // Override the default pageData with actual pagination info
+            ApiResponse.PageData pageData = new ApiResponse.PageData(
+                page + 1, // Convert to 1-based
+                size,
+                paginatedData.getTotalPages(),
+                paginatedData.getData().size(),
+                (int) paginatedData.getTotalElements()
+            );
+
+            response.getData().setPageData(pageData);
+
+            return Response.ok(new GenericEntity<>(response, UserResponseJsonWriter.LIST)).tag(etag).build();
+        });
+    }
+
+    private CompletionStage<Response> getChangesSince(String updatedSince, String cursor, int size) {
+        return requestExecutor.supply(() -> {
+            long startTime = System.currentTimeMillis();
+            SyncPage<UserResponse> changes = userService.getChangesSince(updatedSince, cursor, size);
+            return cursorPage(changes, System.currentTimeMillis() - startTime);
+        });
+    }
+
+    private CompletionStage<Response> getSortedUsers(String sort, String cursor, String firstName, String lastName,
+                                                     String email, int size) {
+        return requestExecutor.supply(() -> {
+            long startTime = System.currentTimeMillis();
+            SyncPage<UserResponse> users = userService.getSortedUsers(sort, cursor, firstName, lastName, email, size);
+            return cursorPage(users, System.currentTimeMillis() - startTime);
+        });
+    }
+
+    private static Response cursorPage(SyncPage<UserResponse> page, long processingTime) {
         ApiResponse<List<UserResponse>> response = new ApiResponse<>(
-            200, 
-            "Success (in " + processingTime + "ms)", 
-            paginatedData.getData(), 
+            200,
+            "Success (in " + processingTime + "ms)",
+            page.getData(),
             processingTime
         );
-        
-        // Override the default pageData with actual pagination info
-        ApiResponse.PageData pageData = new ApiResponse.PageData(
-            page + 1, // Convert to 1-based
-            size,
-            paginatedData.getTotalPages(),
-            paginatedData.getData().size(),
-            (int) paginatedData.getTotalElements()
-        );
-        
-        response.getData().setPageData(pageData);
-        
-        return Response.ok(response).build();
+
+        Response.ResponseBuilder builder = Response.ok(new GenericEntity<>(response, UserResponseJsonWriter.LIST))
+                .header(HAS_MORE_HEADER, page.isHasMore());
+        if (page.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return builder.build();
     }
 
     @GET
@@ -140,6 +250,10 @@ public class UserResource {
                             schema = @Schema(implementation = UserResponse.class)
                     )
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "User unchanged since the tag sent in If-None-Match"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "User not found",
@@ -155,22 +269,34 @@ public class UserResource {
                     )
             )
     })
-    public Response getUserById(
+    public CompletionStage<Response> getUserById(
             @Parameter(description = "User ID", example = "550e8400e29b41d4a716446655440000")
-            @PathParam("id") String id) {
+            @PathParam("id") String id,
+            @Parameter(description = "Entity tag of a previously fetched representation")
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
 
-        long startTime = System.currentTimeMillis();
-        UserResponse user = userService.getUserById(id);
-        long processingTime = System.currentTimeMillis() - startTime;
-        
-        // For single record, return the data directly without pagination wrapper
-        ApiResponse<UserResponse> response = new ApiResponse<>(
-            200, 
-            "Success (in " + processingTime + "ms)", 
-            user
-        );
-        
-        return Response.ok(response).build();
+        return requestExecutor.supply(() -> {
+            // Answer revalidation from the version column alone, without loading the user
+            if (ifNoneMatch != null) {
+                EntityTag currentTag = EntityTags.forUser(id, userService.getUserVersion(id));
+                if (EntityTags.matchesAny(ifNoneMatch, currentTag)) {
+                    return Response.notModified(currentTag).build();
+                }
+            }
+
+            long startTime = System.currentTimeMillis();
+            UserResponse user = userService.getUserById(id);
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            // For single record, return the data directly without pagination wrapper
+            ApiResponse<UserResponse> response = new ApiResponse<>(
+                200, 
+                "Success (in " + processingTime + "ms)", 
+                user
+            );
+
+            return Response.ok(new GenericEntity<>(response, UserResponseJsonWriter.SINGLE)).tag(EntityTags.forUser(user.getId(), user.getVersion())).build();
+        });
     }
 
     @POST
@@ -206,24 +332,307 @@ public class UserResource {
                     )
             )
     })
-    public Response createUser(
+    public CompletionStage<Response> createUser(
             @Parameter(description = "User creation request", required = true)
             @Valid CreateUserRequest request) {
 
+        return requestExecutor.supply(() -> {
+            long startTime = System.currentTimeMillis();
+            UserResponse createdUser = userService.createUser(request);
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            // For single record, return the data directly without pagination wrapper
+            ApiResponse<UserResponse> response = new ApiResponse<>(
+                201, 
+                "Success (in " + processingTime + "ms)", 
+                createdUser
+            );
+
+            return Response.status(Response.Status.CREATED)
+                    .entity(new GenericEntity<>(response, UserResponseJsonWriter.SINGLE))
+                    .tag(EntityTags.forUser(createdUser.getId(), createdUser.getVersion()))
+                    .build();
+        });
+    }
+
+    @POST
+    @Path("/authenticate")
+    @Operation(
+            summary = "Authenticate user",
+            description = "Verify a user's email and password. Repeated attempts from one IP or failed attempts for one email are throttled."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Credentials are valid",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = UserResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "Invalid email or password",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Invalid Credentials",
+                                            value = "{\"statusCode\": 401, \"message\": \"Invalid email or password\", \"timestamp\": \"2025-07-04T12:00:00\", \"errors\": null}"
+                                    )
+                            }
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Too many attempts; retry after the number of seconds in Retry-After",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Too Many Attempts",
+                                            value = "{\"statusCode\": 429, \"message\": \"Too many login attempts, please retry later\", \"timestamp\": \"2025-07-04T12:00:00\", \"errors\": null}"
+                                    )
+                            }
+                    )
+            )
+    })
+    public CompletionStage<Response> authenticate(
+            @Parameter(description = "User credentials", required = true)
+            @Valid AuthenticateRequest request,
+            @Context HttpServletRequest httpRequest,
+            @HeaderParam(HttpHeaders.USER_AGENT) String userAgent) {
+
+        // Read request state on the request thread
+        String ipAddress = httpRequest.getRemoteAddr();
+
+        return requestExecutor.supply(() -> {
+            long startTime = System.currentTimeMillis();
+            UserResponse user = userService.authenticate(request, ipAddress, userAgent);
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            ApiResponse<UserResponse> response = new ApiResponse<>(
+                200,
+                "Success (in " + processingTime + "ms)",
+                user
+            );
+
+            return Response.ok(new GenericEntity<>(response, UserResponseJsonWriter.SINGLE)).build();
+        });
+    }
+
+    @POST
+    @Path("/batch-get")
+    @Operation(
+            summary = "Get users by IDs",
+            description = "Retrieve up to 500 users in one request. Results are returned in request order; IDs without a user are marked with found=false."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully looked up users",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = UserLookupResult.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "No IDs, too many IDs or an invalid ID",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Invalid ID",
+                                            value = "{\"statusCode\": 400, \"message\": \"Invalid user ID format: Invalid hex ID length: 3. Expected 32 characters.\", \"timestamp\": \"2025-07-04T12:00:00\", \"errors\": null}"
+                                    )
+                            }
+                    )
+            )
+    })
+    public CompletionStage<Response> getUsersByIds(
+            @Parameter(description = "IDs to look up", required = true)
+            @Valid BatchGetUsersRequest request) {
+
+        return requestExecutor.supply(() -> {
+            long startTime = System.currentTimeMillis();
+            List<UserLookupResult> results = userService.getUsersByIds(request.getIds());
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            ApiResponse<List<UserLookupResult>> response = new ApiResponse<>(
+                200,
+                "Success (in " + processingTime + "ms)",
+                results
+            );
+
+            return Response.ok(response).build();
+        });
+    }
+
+    @GET
+    @Path("/search")
+    @Operation(
+            summary = "Search users",
+            description = "Full-text search over first name, last name and email that tolerates typos, best match first. Served from memory; results carry ID, names, email and version."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Matching users with pagination",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = UserResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Empty query, invalid page or size, or page beyond the result window",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "The index is still being built after startup"
+            )
+    })
+    public Response searchUsers(
+            @Parameter(description = "Words to search for", required = true, example = "Jon Smth")
+            @QueryParam("q") String query,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @QueryParam("page") @DefaultValue("0") int page,
+            @Parameter(description = "Page size", example = "20")
+            @QueryParam("size") @DefaultValue("20") int size) {
+
+        // Answered from memory, so there is no blocking call to move off the request thread
+        long startTime = System.currentTimeMillis();
+        PaginatedResponse<UserResponse> results = userSearchIndex.search(query, page, size);
+        long processingTime = System.currentTimeMillis() - startTime;
+
+        ApiResponse<List<UserResponse>> response = new ApiResponse<>(
+            200,
+            "Success (in " + processingTime + "ms)",
+            results.getData(),
+            processingTime
+        );
+        response.getData().setPageData(new ApiResponse.PageData(
+            page + 1, // Convert to 1-based
+            size,
+            results.getTotalPages(),
+            results.getData().size(),
+            (int) results.getTotalElements()
+        ));
+
+        return Response.ok(new GenericEntity<>(response, UserResponseJsonWriter.LIST)).build();
+    }
+
+    @GET
+    @Path("/suggest")
+    @Operation(
+            summary = "Suggest users",
+            description = "Autocomplete: users whose first name, last name, full name or email starts with q, ignoring case and accents. Served from memory; results carry ID, names, email and version."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Matching users, at most limit",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = UserResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Empty query or limit out of range",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "The index is still loading after startup"
+            )
+    })
+    public Response suggestUsers(
+            @Parameter(description = "Typed prefix", required = true, example = "Jo")
+            @QueryParam("q") String query,
+            @Parameter(description = "Maximum number of users", example = "10")
+            @QueryParam("limit") @DefaultValue("10") int limit) {
+
+        // Answered from memory, so there is no blocking call to move off the request thread
         long startTime = System.currentTimeMillis();
-        UserResponse createdUser = userService.createUser(request);
+        List<UserResponse> users = userPrefixIndex.suggest(query, limit);
         long processingTime = System.currentTimeMillis() - startTime;
-        
-        // For single record, return the data directly without pagination wrapper
-        ApiResponse<UserResponse> response = new ApiResponse<>(
-            201, 
-            "Success (in " + processingTime + "ms)", 
-            createdUser
+
+        ApiResponse<List<UserResponse>> response = new ApiResponse<>(
+            200,
+            "Success (in " + processingTime + "ms)",
+            users,
+            processingTime
         );
-        
-        return Response.status(Response.Status.CREATED)
-                .entity(response)
-                .build();
+
+        return Response.ok(new GenericEntity<>(response, UserResponseJsonWriter.LIST)).build();
+    }
+
+    @GET
+    @Path("/changes")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @Operation(
+            summary = "Stream user changes",
+            description = "Server-sent events for every created, updated and deleted user. Each event's id is its cursor; reconnect with since (or Last-Event-ID) set to the last processed cursor to receive the changes missed in between. Subscribers that fall too far behind are disconnected."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream; events are named CREATED, UPDATED or DELETED",
+                    content = @Content(
+                            mediaType = MediaType.SERVER_SENT_EVENTS,
+                            schema = @Schema(implementation = UserChange.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "410",
+                    description = "Changes after the given cursor are no longer buffered; reload users and subscribe without since",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "Too many subscribers"
+            )
+    })
+    public void streamChanges(
+            @Parameter(description = "Cursor of the last processed change; only new changes when omitted", example = "42")
+            @QueryParam("since") Long since,
+            @Parameter(description = "Sent by EventSource clients on reconnect; used when since is omitted")
+            @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId,
+            @Context SseEventSink eventSink,
+            @Context Sse sse) {
+
+        Long cursor = since;
+        if (cursor == null && lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                cursor = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid Last-Event-ID: " + lastEventId);
+            }
+        }
+
+        userChangeFeed.subscribe(cursor,
+                change -> eventSink.send(sse.newEventBuilder()
+                        .id(Long.toString(change.getCursor()))
+                        .name(change.getType())
+                        .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                        .data(UserChange.class, change)
+                        .build()),
+                eventSink::close);
     }
 
     @PUT
@@ -259,6 +668,20 @@ public class UserResource {
                             }
                     )
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "412",
+                    description = "User was modified since the version sent in If-Match",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Precondition Failed",
+                                            value = "{\"statusCode\": 412, \"message\": \"User has been modified since version 3: 1234567890abcdef1234567890abcdef\", \"timestamp\": \"2025-07-04T12:00:00\", \"errors\": null}"
+                                    )
+                            }
+                    )
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "User not found",
@@ -274,24 +697,28 @@ public class UserResource {
                     )
             )
     })
-    public Response updateUser(
+    public CompletionStage<Response> updateUser(
             @Parameter(description = "User ID", example = "550e8400e29b41d4a716446655440000")
             @PathParam("id") String id,
             @Parameter(description = "User update request", required = true)
-            @Valid UpdateUserRequest request) {
+            @Valid UpdateUserRequest request,
+            @Parameter(description = "Entity tag of the version being updated")
+            @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch) {
 
-        long startTime = System.currentTimeMillis();
-        UserResponse updatedUser = userService.updateUser(id, request);
-        long processingTime = System.currentTimeMillis() - startTime;
-        
-        // For single record, return the data directly without pagination wrapper
-        ApiResponse<UserResponse> response = new ApiResponse<>(
-            200, 
-            "Success (in " + processingTime + "ms)", 
-            updatedUser
-        );
-        
-        return Response.ok(response).build();
+        return requestExecutor.supply(() -> {
+            long startTime = System.currentTimeMillis();
+            UserResponse updatedUser = userService.updateUser(id, request, EntityTags.expectedVersion(ifMatch, id));
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            // For single record, return the data directly without pagination wrapper
+            ApiResponse<UserResponse> response = new ApiResponse<>(
+                200, 
+                "Success (in " + processingTime + "ms)", 
+                updatedUser
+            );
+
+            return Response.ok(new GenericEntity<>(response, UserResponseJsonWriter.SINGLE)).tag(EntityTags.forUser(updatedUser.getId(), updatedUser.getVersion())).build();
+        });
     }
 
     @PATCH
@@ -323,6 +750,20 @@ public class UserResource {
                             }
                     )
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "412",
+                    description = "User was modified since the version sent in If-Match",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Precondition Failed",
+                                            value = "{\"statusCode\": 412, \"message\": \"User has been modified since version 3: 1234567890abcdef1234567890abcdef\", \"timestamp\": \"2025-07-04T12:00:00\", \"errors\": null}"
+                                    )
+                            }
+                    )
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "User not found",
@@ -338,24 +779,28 @@ public class UserResource {
                     )
             )
     })
-    public Response resetPassword(
+    public CompletionStage<Response> resetPassword(
             @Parameter(description = "User ID", example = "550e8400e29b41d4a716446655440000")
             @PathParam("id") String id,
             @Parameter(description = "Password reset request", required = true)
-            @Valid ResetPasswordRequest request) {
+            @Valid ResetPasswordRequest request,
+            @Parameter(description = "Entity tag of the version being updated")
+            @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch) {
 
-        long startTime = System.currentTimeMillis();
-        UserResponse updatedUser = userService.resetPassword(id, request);
-        long processingTime = System.currentTimeMillis() - startTime;
-        
-        // For single record, return the data directly without pagination wrapper
-        ApiResponse<UserResponse> response = new ApiResponse<>(
-            200, 
-            "Success (in " + processingTime + "ms)", 
-            updatedUser
-        );
-        
-        return Response.ok(response).build();
+        return requestExecutor.supply(() -> {
+            long startTime = System.currentTimeMillis();
+            UserResponse updatedUser = userService.resetPassword(id, request, EntityTags.expectedVersion(ifMatch, id));
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            // For single record, return the data directly without pagination wrapper
+            ApiResponse<UserResponse> response = new ApiResponse<>(
+                200, 
+                "Success (in " + processingTime + "ms)", 
+                updatedUser
+            );
+
+            return Response.ok(new GenericEntity<>(response, UserResponseJsonWriter.SINGLE)).tag(EntityTags.forUser(updatedUser.getId(), updatedUser.getVersion())).build();
+        });
     }
 
     @DELETE
@@ -369,6 +814,20 @@ public class UserResource {
                     responseCode = "204",
                     description = "User deleted successfully"
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "412",
+                    description = "User was modified since the version sent in If-Match",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Precondition Failed",
+                                            value = "{\"statusCode\": 412, \"message\": \"User has been modified since version 3: 1234567890abcdef1234567890abcdef\", \"timestamp\": \"2025-07-04T12:00:00\", \"errors\": null}"
+                                    )
+                            }
+                    )
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "User not found",
@@ -384,15 +843,19 @@ public class UserResource {
                     )
             )
     })
-    public Response deleteUser(
+    public CompletionStage<Response> deleteUser(
             @Parameter(description = "User ID", example = "550e8400e29b41d4a716446655440000")
-            @PathParam("id") String id) {
+            @PathParam("id") String id,
+            @Parameter(description = "Entity tag of the version being deleted")
+            @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch) {
 
-        long startTime = System.currentTimeMillis();
-        userService.deleteUser(id);
-        long processingTime = System.currentTimeMillis() - startTime;
-        
-        // For delete operation, return 204 No Content as per REST standards
-        return Response.noContent().build();
+        return requestExecutor.supply(() -> {
+            long startTime = System.currentTimeMillis();
+            userService.deleteUser(id, EntityTags.expectedVersion(ifMatch, id));
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            // For delete operation, return 204 No Content as per REST standards
+            return Response.noContent().build();
+        });
     }
 } 
\ No newline at end of file
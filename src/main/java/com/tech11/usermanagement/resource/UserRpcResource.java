@@ -0,0 +1,95 @@
+package com.tech11.usermanagement.resource;
+
+import com.tech11.usermanagement.config.RequestExecutor;
+import com.tech11.usermanagement.config.UserProtoCodec;
+import com.tech11.usermanagement.data.PaginatedResponse;
+import com.tech11.usermanagement.dto.request.CreateUserRequest;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import com.tech11.usermanagement.services.UserService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Binary interface for internal callers, backed by the same {@link UserService} as the REST API.
+ * Request and response bodies are the protobuf messages in {@code src/main/proto/user_service.proto},
+ * without the {@code ApiResponse} wrapper. Errors keep the REST API's status codes and JSON bodies.
+ */
+@Path("/rpc/users")
+@Produces(UserProtoCodec.APPLICATION_PROTOBUF)
+@Consumes(UserProtoCodec.APPLICATION_PROTOBUF)
+@Tag(name = "User RPC", description = "Protobuf interface for internal services")
+public class UserRpcResource {
+
+    @Inject
+    private UserService userService;
+
+    @Inject
+    private RequestExecutor requestExecutor;
+
+    @Inject
+    private Validator validator;
+
+    @POST
+    @Path("/Get")
+    @Operation(summary = "Get user", description = "GetUserRequest in, User out")
+    public CompletionStage<Response> get(byte[] body) {
+        return requestExecutor.supply(() -> {
+            String id = UserProtoCodec.decodeGetUserRequest(body);
+            return Response.ok(UserProtoCodec.encodeUser(userService.getUserById(id))).build();
+        });
+    }
+
+    @POST
+    @Path("/BatchGet")
+    @Operation(summary = "Get users by IDs", description = "BatchGetUsersRequest in, BatchGetUsersResponse out")
+    public CompletionStage<Response> batchGet(byte[] body) {
+        return requestExecutor.supply(() -> {
+            List<String> ids = UserProtoCodec.decodeBatchGetUsersRequest(body);
+            return Response.ok(UserProtoCodec.encodeBatchGetUsersResponse(userService.getUsersByIds(ids))).build();
+        });
+    }
+
+    @POST
+    @Path("/Search")
+    @Operation(summary = "Search users", description = "SearchUsersRequest in, SearchUsersResponse out")
+    public CompletionStage<Response> search(byte[] body) {
+        return requestExecutor.supply(() -> {
+            UserProtoCodec.SearchQuery query = UserProtoCodec.decodeSearchUsersRequest(body);
+            PaginatedResponse<UserResponse> page = userService.getAllUsers(
+                    query.firstName(), query.lastName(), query.email(), query.page(), query.size());
+            return Response.ok(UserProtoCodec.encodeSearchUsersResponse(page)).build();
+        });
+    }
+
+    @POST
+    @Path("/Create")
+    @Operation(summary = "Create user", description = "CreateUserRequest in, User out")
+    public CompletionStage<Response> create(byte[] body) {
+        CreateUserRequest request = UserProtoCodec.decodeCreateUserRequest(body);
+        // Same constraints the REST endpoint applies through @Valid
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        return requestExecutor.supply(() -> {
+            UserResponse createdUser = userService.createUser(request);
+            return Response.status(Response.Status.CREATED)
+                    .entity(UserProtoCodec.encodeUser(createdUser))
+                    .build();
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package com.tech11.usermanagement.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * Adaptive Concurrency Limiter
+ *
+ * Caps the number of concurrent {@link UserService} calls and sheds anything above the cap
+ * with 503, instead of letting requests queue for database connections. The cap follows
+ * the latency of {@link com.tech11.usermanagement.repository.UserRepository} calls using a
+ * gradient rule: while recent latency stays near the long-term average the cap grows by
+ * roughly its square root, and as latency climbs the cap shrinks in proportion.
+ *
+ * Writes may only use a share of the cap, so under overload they are shed first and reads
+ * keep being served.
+ *
+ * Samples are only added to counters, so repository calls never contend on a lock. The cap is
+ * recomputed from the average latency of each {@code concurrency.limit.update.interval.millis}
+ * window by whichever call first finds the window over. Limit, in-flight calls and sheds are
+ * exported as gauges. Sheds are logged individually at FINE only, and summarised in one warning
+ * at most every {@value #LOG_INTERVAL_SECONDS} seconds, since they happen under overload.
+ */
+@ApplicationScoped
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveConcurrencyLimiter.class.getName());
+
+    /**
+     * Weight of each window's average in the long-term latency average.
+     */
+    private static final double LONG_RTT_WEIGHT = 0.01;
+
+    private static final long LOG_INTERVAL_SECONDS = 10;
+
+    @Inject
+    @ConfigProperty(name = "concurrency.limit.initial", defaultValue = "20")
+    int initialLimit;
+
+    @Inject
+    @ConfigProperty(name = "concurrency.limit.min", defaultValue = "4")
+    int minLimit;
+
+    @Inject
+    @ConfigProperty(name = "concurrency.limit.max", defaultValue = "200")
+    int maxLimit;
+
+    @Inject
+    @ConfigProperty(name = "concurrency.limit.write.share", defaultValue = "0.75")
+    double writeShare;
+
+    @Inject
+    @ConfigProperty(name = "concurrency.limit.rtt.tolerance", defaultValue = "2.0")
+    double rttTolerance;
+
+    @Inject
+    @ConfigProperty(name = "concurrency.limit.smoothing", defaultValue = "0.2")
+    double smoothing;
+
+    @Inject
+    @ConfigProperty(name = "concurrency.limit.update.interval.millis", defaultValue = "100")
+    long updateIntervalMillis;
+
+    LongSupplier clock = System::nanoTime;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder sampleCount = new LongAdder();
+    private final LongAdder sampleNanos = new LongAdder();
+    private final AtomicLong nextUpdateNanos = new AtomicLong();
+    private final AtomicLong lastWarningNanos = new AtomicLong();
+    // Written only by the call that wins lastWarningNanos
+    private volatile long rejectedAtLastWarning;
+
+    private long updateIntervalNanos;
+    private volatile double limit;
+    private volatile double longRttNanos;
+
+    @PostConstruct
+    void init() {
+        limit = initialLimit;
+        updateIntervalNanos = TimeUnit.MILLISECONDS.toNanos(updateIntervalMillis);
+        long now = clock.getAsLong();
+        nextUpdateNanos.set(now + updateIntervalNanos);
+        lastWarningNanos.set(now);
+        LOGGER.info("AdaptiveConcurrencyLimiter: Initial limit %d, range %d-%d, write share %.2f"
+                .formatted(initialLimit, minLimit, maxLimit, writeShare));
+    }
+
+    /**
+     * Take a permit.
+     *
+     * @param write true if the call writes data
+     * @throws ServiceUnavailableException if the call's share of the limit is in use
+     */
+    public void acquire(boolean write) {
+        int allowed = write ? Math.max(1, (int) (limit * writeShare)) : (int) limit;
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= allowed) {
+                shed(write, current, allowed);
+                throw new ServiceUnavailableException("Service is overloaded, please retry", 1L);
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+    }
+
+    private void shed(boolean write, int current, int allowed) {
+        rejected.increment();
+        LOGGER.fine(() -> "AdaptiveConcurrencyLimiter: Shedding %s, %d in flight, limit %d"
+                .formatted(write ? "write" : "read", current, allowed));
+        long now = clock.getAsLong();
+        long last = lastWarningNanos.get();
+        if (now - last >= TimeUnit.SECONDS.toNanos(LOG_INTERVAL_SECONDS) && lastWarningNanos.compareAndSet(last, now)) {
+            long total = rejected.sum();
+            LOGGER.warning("AdaptiveConcurrencyLimiter: Shed %d calls in the last %d seconds, limit %d"
+                    .formatted(total - rejectedAtLastWarning, TimeUnit.NANOSECONDS.toSeconds(now - last), (int) limit));
+            rejectedAtLastWarning = total;
+        }
+    }
+
+    /**
+     * Return a permit taken with {@link #acquire(boolean)}.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Record the latency of one repository call, and adjust the limit if the current window is over.
+     *
+     * @param rttNanos call duration in nanoseconds
+     */
+    public void onSample(long rttNanos) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        sampleNanos.add(rttNanos);
+        sampleCount.increment();
+
+        long now = clock.getAsLong();
+        long due = nextUpdateNanos.get();
+        // Only the call that moves the deadline updates the limit
+        if (now - due >= 0 && nextUpdateNanos.compareAndSet(due, now + updateIntervalNanos)) {
+            updateLimit();
+        }
+    }
+
+    /**
+     * Adjust the limit from the average latency of the window that just ended.
+     */
+    private void updateLimit() {
+        long count = sampleCount.sumThenReset();
+        long totalNanos = sampleNanos.sumThenReset();
+        if (count == 0) {
+            return;
+        }
+        double rttNanos = (double) totalNanos / count;
+        double longRtt = longRttNanos;
+        longRtt = longRtt == 0 ? rttNanos : longRtt + (rttNanos - longRtt) * LONG_RTT_WEIGHT;
+        longRttNanos = longRtt;
+
+        // Below 1 once recent latency exceeds the tolerated multiple of the long-term average
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / rttNanos));
+        double current = limit;
+        if (gradient >= 1.0 && inFlight.get() * 2 < current) {
+            // Not enough traffic to tell whether a higher limit would be safe
+            return;
+        }
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    // Metrics, served in the application scope of /metrics
+
+    @Gauge(name = "concurrency.limit", unit = MetricUnits.NONE,
+            description = "Current cap on concurrent service calls")
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Gauge(name = "concurrency.in.flight", unit = MetricUnits.NONE,
+            description = "Service calls holding a permit")
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Gauge(name = "concurrency.rejected", unit = MetricUnits.NONE,
+            description = "Service calls shed with 503 since start")
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,39 @@
+package com.tech11.usermanagement.services;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * Holds a permit from the {@link AdaptiveConcurrencyLimiter} for the duration of the call.
+ */
+@ConcurrencyLimited
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class ConcurrencyLimitInterceptor {
+
+    @Inject
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @AroundInvoke
+    public Object limit(InvocationContext context) throws Exception {
+        limiter.acquire(isWrite(context.getMethod()));
+        try {
+            return context.proceed();
+        } finally {
+            limiter.release();
+        }
+    }
+
+    private static boolean isWrite(Method method) {
+        ConcurrencyLimited binding = method.getAnnotation(ConcurrencyLimited.class);
+        if (binding == null) {
+            binding = method.getDeclaringClass().getAnnotation(ConcurrencyLimited.class);
+        }
+        return binding != null && binding.write();
+    }
+}
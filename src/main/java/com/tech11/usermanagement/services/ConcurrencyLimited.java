@@ -0,0 +1,27 @@
+package com.tech11.usermanagement.services;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Admits calls through the {@link AdaptiveConcurrencyLimiter}, failing with 503 once the
+ * current concurrency limit is reached. Calls marked as writes are shed before reads.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ConcurrencyLimited {
+
+    /**
+     * @return true if the call writes data and should yield capacity to reads
+     */
+    @Nonbinding
+    boolean write() default false;
+}
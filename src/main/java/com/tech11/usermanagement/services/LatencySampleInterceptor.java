@@ -0,0 +1,30 @@
+package com.tech11.usermanagement.services;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Feeds call latency into the {@link AdaptiveConcurrencyLimiter}.
+ * Ordered before the transactional interceptor, so commit time is part of the sample.
+ */
+@LatencySampled
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class LatencySampleInterceptor {
+
+    @Inject
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @AroundInvoke
+    public Object sample(InvocationContext context) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return context.proceed();
+        } finally {
+            limiter.onSample(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.tech11.usermanagement.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * Login Throttle
+ *
+ * Counts login attempts per client IP and failed logins per email over a sliding window,
+ * and rejects a request with 429 before any password hash is computed once either limit
+ * is reached. This keeps credential-stuffing traffic from consuming the hashing pool.
+ *
+ * Admitting an attempt reserves one failure against the email up front, so concurrent
+ * guesses cannot all pass the check before the first one fails. A successful login clears
+ * the email's failures in place, and an attempt that ends without a verdict gives its
+ * reservation back.
+ *
+ * Each key owns a small ring of time buckets. A bucket packs its epoch and count into a
+ * single long that is updated with compare-and-set, so recording an attempt never locks.
+ * The number of tracked keys is capped; when an attempt would need windows beyond the cap,
+ * keys whose window has expired are swept, at most once per bucket. Live windows are never
+ * evicted, since that would forget failures. While the cap is still reached, attempts for
+ * untracked keys are counted together in one overflow window with its own limit, so tracked
+ * users keep their limits and new ones are only turned away once the overflow is used up.
+ *
+ * Rejections are logged individually at FINE only, without the email, and summarised in one
+ * warning at most every {@value #LOG_INTERVAL_SECONDS} seconds.
+ */
+@ApplicationScoped
+public class LoginThrottle {
+
+    private static final Logger LOGGER = Logger.getLogger(LoginThrottle.class.getName());
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long LOG_INTERVAL_SECONDS = 10;
+
+    @Inject
+    @ConfigProperty(name = "login.throttle.window.seconds", defaultValue = "60")
+    int windowSeconds;
+
+    @Inject
+    @ConfigProperty(name = "login.throttle.buckets", defaultValue = "6")
+    int buckets;
+
+    @Inject
+    @ConfigProperty(name = "login.throttle.max.attempts.per.ip", defaultValue = "30")
+    int maxAttemptsPerIp;
+
+    @Inject
+    @ConfigProperty(name = "login.throttle.max.failures.per.email", defaultValue = "5")
+    int maxFailuresPerEmail;
+
+    @Inject
+    @ConfigProperty(name = "login.throttle.max.entries", defaultValue = "100000")
+    int maxEntries;
+
+    @Inject
+    @ConfigProperty(name = "login.throttle.max.overflow.attempts", defaultValue = "1000")
+    int maxOverflowAttempts;
+
+    LongSupplier clock = System::currentTimeMillis;
+
+    private long bucketMillis;
+    private final ConcurrentHashMap<String, SlidingWindow> ipWindows = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, SlidingWindow> emailWindows = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong lastSweepEpoch = new AtomicLong(-1);
+    private SlidingWindow overflow;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final AtomicLong lastWarningMillis = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        bucketMillis = Math.max(1L, windowSeconds * 1000L / buckets);
+        overflow = new SlidingWindow(buckets);
+        lastWarningMillis.set(clock.getAsLong());
+        LOGGER.info("LoginThrottle: %d attempts per IP and %d failures per email per %d seconds, tracking up to %d keys"
+                .formatted(maxAttemptsPerIp, maxFailuresPerEmail, windowSeconds, maxEntries));
+    }
+
+    /**
+     * Admit a login attempt, counting it against the client IP and reserving a failure against
+     * the email. The reservation stands as the failure unless the attempt succeeds or is released.
+     *
+     * @param email the email being logged in to
+     * @param ipAddress the client address
+     * @throws ClientErrorException with status 429 and Retry-After if a limit is reached
+     */
+    public void acquire(String email, String ipAddress) {
+        long epoch = currentEpoch();
+        String emailKey = emailKey(email);
+        SlidingWindow failures = emailWindows.get(emailKey);
+        SlidingWindow attempts = ipWindows.get(ipAddress);
+
+        // Both keys are checked against the cap before either window is created
+        int missing = (failures == null ? 1 : 0) + (attempts == null ? 1 : 0);
+        boolean untracked = missing > 0 && trackedKeys() + missing > maxEntries;
+        if (untracked) {
+            sweep(epoch);
+            untracked = trackedKeys() + missing > maxEntries;
+        }
+        if (untracked) {
+            if (overflow.increment(epoch) > maxOverflowAttempts) {
+                overflow.decrement(epoch);
+                throw reject("overflow", overflow, epoch);
+            }
+            overflowed.increment();
+        } else {
+            failures = failures != null ? failures : emailWindows.computeIfAbsent(emailKey, k -> new SlidingWindow(buckets));
+            attempts = attempts != null ? attempts : ipWindows.computeIfAbsent(ipAddress, k -> new SlidingWindow(buckets));
+        }
+
+        if (failures != null && failures.increment(epoch) > maxFailuresPerEmail) {
+            failures.decrement(epoch);
+            if (untracked) {
+                overflow.decrement(epoch);
+            }
+            throw reject("email", failures, epoch);
+        }
+
+        if (attempts != null && attempts.increment(epoch) > maxAttemptsPerIp) {
+            if (failures != null) {
+                failures.decrement(epoch);
+            }
+            if (untracked) {
+                overflow.decrement(epoch);
+            }
+            throw reject("IP", attempts, epoch);
+        }
+    }
+
+    /**
+     * Give back the failure reserved by {@link #acquire(String, String)} for an attempt that
+     * ended without checking the password, e.g. because the hashing pool was busy.
+     */
+    public void release(String email) {
+        SlidingWindow failures = emailWindows.get(emailKey(email));
+        if (failures != null) {
+            failures.decrement(currentEpoch());
+        }
+    }
+
+    /**
+     * Forget the failures for the email after a successful login.
+     *
+     * @return failed logins for the email within the window, not counting this attempt
+     */
+    public int recordSuccess(String email) {
+        // Cleared rather than removed, so attempts that already hold the window still count on it
+        SlidingWindow failures = emailWindows.get(emailKey(email));
+        return failures == null ? 0 : Math.max(0, failures.clear(currentEpoch()) - 1);
+    }
+
+    /**
+     * @return failed logins for the email within the current window
+     */
+    public int recentFailures(String email) {
+        SlidingWindow failures = emailWindows.get(emailKey(email));
+        return failures == null ? 0 : failures.count(currentEpoch());
+    }
+
+    int trackedKeys() {
+        return ipWindows.size() + emailWindows.size();
+    }
+
+    private long currentEpoch() {
+        return clock.getAsLong() / bucketMillis;
+    }
+
+    private static String emailKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Drop windows that have expired. Windows only expire as buckets pass, so this runs at
+     * most once per bucket, and only one thread sweeps at a time.
+     */
+    private void sweep(long epoch) {
+        long last = lastSweepEpoch.get();
+        if (last == epoch || !lastSweepEpoch.compareAndSet(last, epoch) || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            ipWindows.values().removeIf(window -> window.count(epoch) == 0);
+            emailWindows.values().removeIf(window -> window.count(epoch) == 0);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * Count a rejected attempt and log a summary of recent rejections at most every
+     * {@value #LOG_INTERVAL_SECONDS} seconds.
+     *
+     * @param limit which limit was reached, for the log
+     * @param window the window whose limit was reached, for Retry-After
+     */
+    private ClientErrorException reject(String limit, SlidingWindow window, long epoch) {
+        rejected.increment();
+        LOGGER.fine(() -> "LoginThrottle: Login attempt rejected by the " + limit + " limit");
+        long now = clock.getAsLong();
+        long last = lastWarningMillis.get();
+        if (now - last >= TimeUnit.SECONDS.toMillis(LOG_INTERVAL_SECONDS) && lastWarningMillis.compareAndSet(last, now)) {
+            LOGGER.warning("LoginThrottle: Rejected %d login attempts in the last %d seconds, %d attempts for untracked keys, tracking %d keys"
+                    .formatted(rejected.sumThenReset(), TimeUnit.MILLISECONDS.toSeconds(now - last), overflowed.sumThenReset(), trackedKeys()));
+        }
+        return tooManyRequests((window.oldestEpoch(epoch) + buckets) * bucketMillis - now);
+    }
+
+    private static ClientErrorException tooManyRequests(long retryAfterMillis) {
+        long retryAfterSeconds = Math.max(1L, (retryAfterMillis + 999) / 1000);
+        return new ClientErrorException("Too many login attempts, please retry later",
+                Response.status(Response.Status.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                        .build());
+    }
+
+    /**
+     * Ring of time buckets, each holding {@code epoch << COUNT_BITS | count}.
+     */
+    static final class SlidingWindow {
+
+        private final AtomicLongArray slots;
+
+        SlidingWindow(int buckets) {
+            this.slots = new AtomicLongArray(buckets);
+        }
+
+        /**
+         * Add one to the bucket for the epoch, resetting it if it still holds an older epoch.
+         *
+         * @return the window count including this increment
+         */
+        int increment(long epoch) {
+            int index = (int) (epoch % slots.length());
+            long current;
+            long updated;
+            do {
+                current = slots.get(index);
+                long count = (current >>> COUNT_BITS) == epoch ? current & COUNT_MASK : 0;
+                updated = (epoch << COUNT_BITS) | Math.min(count + 1, COUNT_MASK);
+            } while (!slots.compareAndSet(index, current, updated));
+            return count(epoch);
+        }
+
+        /**
+         * Remove one from the newest bucket in the window that holds a count.
+         */
+        void decrement(long epoch) {
+            for (long slotEpoch = epoch; slotEpoch >= 0 && epoch - slotEpoch < slots.length(); slotEpoch--) {
+                int index = (int) (slotEpoch % slots.length());
+                long current = slots.get(index);
+                while ((current >>> COUNT_BITS) == slotEpoch && (current & COUNT_MASK) > 0) {
+                    if (slots.compareAndSet(index, current, current - 1)) {
+                        return;
+                    }
+                    current = slots.get(index);
+                }
+            }
+        }
+
+        /**
+         * Empty every bucket, leaving the window in place for attempts that already hold it.
+         *
+         * @return the window count that was cleared
+         */
+        int clear(long epoch) {
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long slot = slots.getAndSet(i, 0);
+                if (epoch - (slot >>> COUNT_BITS) < slots.length()) {
+                    total += slot & COUNT_MASK;
+                }
+            }
+            return (int) Math.min(total, Integer.MAX_VALUE);
+        }
+
+        int count(long epoch) {
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long slot = slots.get(i);
+                if (epoch - (slot >>> COUNT_BITS) < slots.length()) {
+                    total += slot & COUNT_MASK;
+                }
+            }
+            return (int) Math.min(total, Integer.MAX_VALUE);
+        }
+
+        long oldestEpoch(long epoch) {
+            long oldest = epoch;
+            for (int i = 0; i < slots.length(); i++) {
+                long slot = slots.get(i);
+                long slotEpoch = slot >>> COUNT_BITS;
+                if ((slot & COUNT_MASK) > 0 && epoch - slotEpoch < slots.length()) {
+                    oldest = Math.min(oldest, slotEpoch);
+                }
+            }
+            return oldest;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.tech11.usermanagement.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Password Hashing Service
+ *
+ * Hashes and verifies passwords with PBKDF2 on a dedicated, size-capped worker pool,
+ * so CPU-heavy hashing under sign-up or login load cannot occupy every request thread.
+ * When the pool's queue is full, callers get 503 instead of waiting indefinitely.
+ *
+ * Stored password formats, identified by their prefix:
+ * - version 0: legacy plain text written before hashing was introduced
+ * - version 1: {@code $pbkdf2-sha256$i=<iterations>$<salt>$<hash>}
+ *
+ * The cost factor travels with each hash, so it can be raised over time: old hashes keep
+ * verifying and are reported by {@link #needsRehash(String)} until they are re-encoded.
+ */
+@ApplicationScoped
+public class PasswordHashingService {
+
+    public static final int LEGACY_PLAIN_FORMAT = 0;
+    public static final int CURRENT_FORMAT = 1;
+
+    /**
+     * Prefix shared by every value stored in the current format.
+     */
+    public static final String CURRENT_FORMAT_PREFIX = "$pbkdf2-sha256$";
+
+    private static final Logger LOGGER = Logger.getLogger(PasswordHashingService.class.getName());
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Inject
+    @ConfigProperty(name = "password.hash.iterations", defaultValue = "210000")
+    int iterations;
+
+    @Inject
+    @ConfigProperty(name = "password.hash.pool.size", defaultValue = "0")
+    int poolSize;
+
+    @Inject
+    @ConfigProperty(name = "password.hash.queue.capacity", defaultValue = "64")
+    int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Hash of a random password at the configured cost, verified against for unknown users.
+     */
+    private String unknownUserHash;
+
+    // Queue-time metrics
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        byte[] secret = new byte[SALT_BYTES];
+        secureRandom.nextBytes(secret);
+        unknownUserHash = encode(Base64.getEncoder().encodeToString(secret), iterations);
+        LOGGER.info("PasswordHashingService: Started %d hashing threads, queue capacity %d, %d iterations"
+                .formatted(threads, queueCapacity, iterations));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        LOGGER.info("PasswordHashingService: Shutting down hashing pool");
+        executor.shutdown();
+    }
+
+    /**
+     * Hash a password on the hashing pool and wait for the result.
+     *
+     * @param rawPassword the password as entered by the user
+     * @return encoded hash including algorithm, cost and salt
+     * @throws ServiceUnavailableException if the hashing pool is saturated
+     */
+    public String hash(String rawPassword) {
+        return await(hashAsync(rawPassword));
+    }
+
+    /**
+     * Hash a password on the hashing pool.
+     *
+     * @param rawPassword the password as entered by the user
+     * @return future completing with the encoded hash
+     */
+    public CompletableFuture<String> hashAsync(String rawPassword) {
+        return submit(() -> encode(rawPassword, iterations));
+    }
+
+    /**
+     * Verify a password against a stored hash on the hashing pool and wait for the result.
+     *
+     * @param rawPassword the password as entered by the user
+     * @param storedHash the encoded hash from the database
+     * @return true if the password matches
+     * @throws ServiceUnavailableException if the hashing pool is saturated
+     */
+    public boolean matches(String rawPassword, String storedHash) {
+        return await(submit(() -> verify(rawPassword, storedHash)));
+    }
+
+    /**
+     * Determine the format version of a stored password.
+     *
+     * @param storedHash the stored value
+     * @return {@link #CURRENT_FORMAT} for PBKDF2 hashes, otherwise {@link #LEGACY_PLAIN_FORMAT}
+     */
+    public int formatVersion(String storedHash) {
+        return storedHash != null && storedHash.startsWith(CURRENT_FORMAT_PREFIX) ? CURRENT_FORMAT : LEGACY_PLAIN_FORMAT;
+    }
+
+    /**
+     * Check whether a stored password should be re-encoded with the current format and cost.
+     *
+     * @param storedHash the stored value
+     * @return true for legacy formats and for hashes below the configured iteration count
+     */
+    public boolean needsRehash(String storedHash) {
+        if (formatVersion(storedHash) != CURRENT_FORMAT) {
+            return true;
+        }
+        String[] parts = storedHash.split("\\$");
+        try {
+            return parts.length != 5 || Integer.parseInt(parts[2].substring(2)) < iterations;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return true;
+        }
+    }
+
+    // Metrics, served in the application scope of /metrics
+
+    @Gauge(name = "password.hash.completed", unit = MetricUnits.NONE,
+            description = "Hashing tasks completed since start")
+    public long getCompletedCount() {
+        return completedTasks.sum();
+    }
+
+    @Gauge(name = "password.hash.rejected", unit = MetricUnits.NONE,
+            description = "Hashing tasks rejected with 503 because the queue was full")
+    public long getRejectedCount() {
+        return rejectedTasks.sum();
+    }
+
+    @Gauge(name = "password.hash.queue.depth", unit = MetricUnits.NONE,
+            description = "Hashing tasks waiting for a worker")
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Gauge(name = "password.hash.queue.time.average", unit = MetricUnits.MILLISECONDS,
+            description = "Average time a hashing task waited for a worker")
+    public double getAverageQueueTimeMillis() {
+        long completed = completedTasks.sum();
+        return completed == 0 ? 0.0 : totalQueueNanos.sum() / (double) completed / 1_000_000.0;
+    }
+
+    @Gauge(name = "password.hash.queue.time.max", unit = MetricUnits.MILLISECONDS,
+            description = "Longest time a hashing task waited for a worker")
+    public double getMaxQueueTimeMillis() {
+        return maxQueueNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Run a task on the hashing pool, recording how long it waited in the queue.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long queued = System.nanoTime() - enqueuedAt;
+                totalQueueNanos.add(queued);
+                maxQueueNanos.accumulateAndGet(queued, Math::max);
+                try {
+                    return task.get();
+                } finally {
+                    completedTasks.increment();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedTasks.increment();
+            LOGGER.warning("PasswordHashingService: Hashing pool saturated, rejecting request");
+            throw new ServiceUnavailableException("Password hashing capacity exhausted, please retry", 1L);
+        }
+    }
+
+    /**
+     * Spend the work of one verification for a login to an unknown user, so that its response
+     * time does not reveal whether the email is registered. Never matches.
+     *
+     * @param rawPassword the password as entered by the user
+     * @throws ServiceUnavailableException if the hashing pool is saturated
+     */
+    public void verifyUnknownUser(String rawPassword) {
+        await(submit(() -> verify(rawPassword, unknownUserHash)));
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing interrupted", 1L);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    private String encode(String rawPassword, int cost) {
+        byte[] salt = new byte[SALT_BYTES];
+        secureRandom.nextBytes(salt);
+        byte[] hash = pbkdf2(rawPassword, salt, cost);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return CURRENT_FORMAT_PREFIX + "i=" + cost + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    private boolean verify(String rawPassword, String storedHash) {
+        if (storedHash != null && formatVersion(storedHash) == LEGACY_PLAIN_FORMAT) {
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedHash.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = storedHash == null ? new String[0] : storedHash.split("\\$");
+        // ["", scheme, "i=<cost>", salt, hash]
+        if (parts.length != 5 || !parts[2].startsWith("i=")) {
+            LOGGER.warning("PasswordHashingService: Unrecognised password hash format");
+            return false;
+        }
+        try {
+            int cost = Integer.parseInt(parts[2].substring(2));
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] salt = decoder.decode(parts[3]);
+            byte[] expected = decoder.decode(parts[4]);
+            return MessageDigest.isEqual(expected, pbkdf2(rawPassword, salt, cost));
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, "PasswordHashingService: Malformed password hash", e);
+            return false;
+        }
+    }
+
+    private byte[] pbkdf2(String rawPassword, byte[] salt, int cost) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, cost, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Password hashing unavailable: " + ALGORITHM, e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.tech11.usermanagement.services;
+
+import com.tech11.usermanagement.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.Tuple;
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Password Rehash Job
+ *
+ * Migrates passwords still stored in the legacy plain text format to the current hash format
+ * in small batches. Each row is only processed while the machine has CPU headroom and no
+ * request is waiting for the hashing pool, so the migration never competes with live traffic.
+ *
+ * Hashes that are merely below the current cost cannot be upgraded here, since that needs
+ * the password itself; those are re-encoded on the user's next successful login.
+ *
+ * New passwords are always stored hashed, so once a batch finds no legacy value the migration
+ * is complete and the job cancels itself instead of scanning the table on every interval.
+ */
+@ApplicationScoped
+public class PasswordRehashJob {
+
+    private static final Logger LOGGER = Logger.getLogger(PasswordRehashJob.class.getName());
+
+    @Inject
+    private UserRepository userRepository;
+
+    @Inject
+    private PasswordHashingService passwordHashingService;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    @Inject
+    @ConfigProperty(name = "password.rehash.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "password.rehash.interval.seconds", defaultValue = "30")
+    long intervalSeconds;
+
+    @Inject
+    @ConfigProperty(name = "password.rehash.batch.size", defaultValue = "50")
+    int batchSize;
+
+    @Inject
+    @ConfigProperty(name = "password.rehash.max.cpu.load", defaultValue = "0.5")
+    double maxCpuLoad;
+
+    private volatile ScheduledFuture<?> task;
+
+    /**
+     * Schedule the job once the application has started.
+     */
+    void start(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (!enabled) {
+            LOGGER.info("PasswordRehashJob: Disabled by configuration");
+            return;
+        }
+        task = scheduler.scheduleWithFixedDelay(this::runBatch, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        LOGGER.info("PasswordRehashJob: Scheduled every %d seconds, batch size %d, max CPU load %.2f"
+                .formatted(intervalSeconds, batchSize, maxCpuLoad));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Migrate one batch of legacy passwords, stopping early when the system gets busy.
+     */
+    void runBatch() {
+        try {
+            List<Tuple> rows = userRepository.findPasswordsNotInFormat(
+                    PasswordHashingService.CURRENT_FORMAT_PREFIX, batchSize);
+            if (rows.isEmpty()) {
+                LOGGER.info("PasswordRehashJob: No legacy passwords left, stopping");
+                stop();
+                return;
+            }
+            int migrated = 0;
+
+            for (Tuple row : rows) {
+                if (!hasHeadroom()) {
+                    LOGGER.fine("PasswordRehashJob: Pausing, system is busy");
+                    break;
+                }
+                String legacyValue = row.get("password", String.class);
+                String newHash = passwordHashingService.hash(legacyValue);
+                if (userRepository.rehashPassword(row.get("id", UUID.class), legacyValue, newHash)) {
+                    migrated++;
+                }
+            }
+
+            if (migrated > 0) {
+                LOGGER.info("PasswordRehashJob: Migrated %d of %d legacy passwords".formatted(migrated, rows.size()));
+            }
+
+        } catch (ServiceUnavailableException e) {
+            LOGGER.info("PasswordRehashJob: Hashing pool is busy, retrying next run");
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "PasswordRehashJob: Batch failed", e);
+        }
+    }
+
+    /**
+     * Check that no request is queued for hashing and CPU load is below the configured limit.
+     */
+    private boolean hasHeadroom() {
+        if (passwordHashingService.getQueueDepth() > 0) {
+            return false;
+        }
+        return cpuLoad() <= maxCpuLoad;
+    }
+
+    private double cpuLoad() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            double load = ((com.sun.management.OperatingSystemMXBean) os).getCpuLoad();
+            if (load >= 0) {
+                return load;
+            }
+        }
+        double loadAverage = os.getSystemLoadAverage();
+        return loadAverage < 0 ? 0.0 : loadAverage / os.getAvailableProcessors();
+    }
+}
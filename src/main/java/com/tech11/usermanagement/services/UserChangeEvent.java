@@ -0,0 +1,42 @@
+package com.tech11.usermanagement.services;
+
+import com.tech11.usermanagement.dto.response.UserResponse;
+
+/**
+ * User Change Event
+ *
+ * Fired by {@link UserService} after a user is created, updated or deleted. Observers that
+ * run after the transaction succeeds, such as {@link UserChangeFeed}, never see a change
+ * that was rolled back.
+ */
+public class UserChangeEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final String userId;
+    private final UserResponse user;
+
+    private UserChangeEvent(Type type, String userId, UserResponse user) {
+        this.type = type;
+        this.userId = userId;
+        this.user = user;
+    }
+
+    public static UserChangeEvent created(UserResponse user) {
+        return new UserChangeEvent(Type.CREATED, user.getId(), user);
+    }
+
+    public static UserChangeEvent updated(UserResponse user) {
+        return new UserChangeEvent(Type.UPDATED, user.getId(), user);
+    }
+
+    public static UserChangeEvent deleted(String userId) {
+        return new UserChangeEvent(Type.DELETED, userId, null);
+    }
+
+    // Getters
+    public Type getType() { return type; }
+    public String getUserId() { return userId; }
+    public UserResponse getUser() { return user; }
+}
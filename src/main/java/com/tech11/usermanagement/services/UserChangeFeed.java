@@ -0,0 +1,248 @@
+package com.tech11.usermanagement.services;
+
+import com.tech11.usermanagement.dto.response.UserChange;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * User Change Feed
+ *
+ * Numbers committed user changes with an increasing cursor, keeps the most recent ones in a
+ * ring buffer and pushes new ones to subscribers, so downstream services receive deltas
+ * instead of polling the user list.
+ *
+ * Each subscriber has a bounded queue and at most one send in flight. Publishing only enqueues;
+ * each queue is drained on the managed executor, so a writer never waits for a client's socket.
+ * A subscriber whose queue overflows is disconnected rather than slowing down writers or growing
+ * without bound; it can reconnect with the cursor of the last change it processed. Cursors are
+ * local to this instance and restart with it; a cursor the buffer no longer covers is rejected
+ * with 410, after which the consumer reloads users and subscribes afresh.
+ */
+@ApplicationScoped
+public class UserChangeFeed {
+
+    private static final Logger LOGGER = Logger.getLogger(UserChangeFeed.class.getName());
+
+    @Resource
+    ManagedExecutorService managedExecutor;
+
+    @Inject
+    @ConfigProperty(name = "change.feed.history.size", defaultValue = "10000")
+    int historySize;
+
+    @Inject
+    @ConfigProperty(name = "change.feed.subscriber.buffer.size", defaultValue = "256")
+    int subscriberBufferSize;
+
+    @Inject
+    @ConfigProperty(name = "change.feed.max.subscribers", defaultValue = "1000")
+    int maxSubscribers;
+
+    private UserChange[] history;
+    // Guarded by this
+    private long lastCursor;
+    private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        history = new UserChange[historySize];
+        LOGGER.info("UserChangeFeed: Keeping %d changes, %d per subscriber, up to %d subscribers"
+                .formatted(historySize, subscriberBufferSize, maxSubscribers));
+    }
+
+    void onUserChange(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserChangeEvent event) {
+        publish(event);
+    }
+
+    /**
+     * Assign the next cursor to a change, record it and queue it for every subscriber.
+     * Sending is handed to the executor after the lock is released.
+     */
+    UserChange publish(UserChangeEvent event) {
+        UserChange change;
+        List<Subscription> recipients;
+        synchronized (this) {
+            change = new UserChange(++lastCursor, event.getType().name(), event.getUserId(),
+                    event.getUser(), LocalDateTime.now());
+            history[(int) (change.getCursor() % history.length)] = change;
+            recipients = new ArrayList<>(subscribers.size());
+            for (Subscription subscription : subscribers) {
+                if (subscription.queue.offer(change)) {
+                    recipients.add(subscription);
+                } else {
+                    LOGGER.warning("UserChangeFeed: Disconnecting slow subscriber at cursor " + change.getCursor());
+                    subscription.close();
+                }
+            }
+        }
+        recipients.forEach(Subscription::scheduleDrain);
+        return change;
+    }
+
+    /**
+     * Subscribe to changes.
+     *
+     * @param since cursor of the last change the caller has processed, or null for new changes only
+     * @param sender sends one change; the stage completes once it is written and fails if the
+     *               client is gone
+     * @param onClose called once when the subscription ends, to release the connection
+     * @return the subscription
+     * @throws ClientErrorException with status 410 if changes after {@code since} are no longer buffered
+     * @throws ServiceUnavailableException if the subscriber limit is reached
+     */
+    public Subscription subscribe(Long since, Function<UserChange, CompletionStage<?>> sender, Runnable onClose) {
+        Subscription subscription;
+        synchronized (this) {
+            if (subscribers.size() >= maxSubscribers) {
+                LOGGER.warning("UserChangeFeed: Subscriber limit reached: " + maxSubscribers);
+                throw new ServiceUnavailableException("Too many change feed subscribers, please retry later", 5L);
+            }
+            List<UserChange> backlog = since == null ? List.of() : changesAfter(since);
+            subscription = new Subscription(sender, onClose, subscriberBufferSize + backlog.size());
+            subscription.queue.addAll(backlog);
+            subscribers.add(subscription);
+        }
+        LOGGER.info("UserChangeFeed: Subscribed from cursor " + (since == null ? "latest" : since));
+        subscription.scheduleDrain();
+        return subscription;
+    }
+
+    /**
+     * @return the cursor of the latest change, 0 before the first one
+     */
+    public synchronized long getLastCursor() {
+        return lastCursor;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private List<UserChange> changesAfter(long since) {
+        long oldest = Math.max(1, lastCursor - history.length + 1);
+        if (since > lastCursor || since < oldest - 1) {
+            LOGGER.warning("UserChangeFeed: Cursor %d outside buffered range %d-%d".formatted(since, oldest, lastCursor));
+            throw new ClientErrorException("Changes since cursor " + since + " are no longer available, reload users and subscribe without since",
+                    Response.Status.GONE);
+        }
+        List<UserChange> changes = new ArrayList<>((int) (lastCursor - since));
+        for (long cursor = since + 1; cursor <= lastCursor; cursor++) {
+            changes.add(history[(int) (cursor % history.length)]);
+        }
+        return changes;
+    }
+
+    /**
+     * One subscriber's queue and send loop.
+     */
+    public final class Subscription {
+
+        private final Function<UserChange, CompletionStage<?>> sender;
+        private final Runnable onClose;
+        private final ArrayBlockingQueue<UserChange> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(Function<UserChange, CompletionStage<?>> sender, Runnable onClose, int capacity) {
+            this.sender = sender;
+            this.onClose = onClose;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        public boolean isClosed() {
+            return closed.get();
+        }
+
+        int queued() {
+            return queue.size();
+        }
+
+        /**
+         * Start draining on the executor unless a drain is already running or waiting on a send.
+         */
+        private void scheduleDrain() {
+            if (closed.get() || queue.isEmpty() || !sending.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                managedExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warning("UserChangeFeed: Executor rejected send, disconnecting subscriber");
+                close();
+            }
+        }
+
+        /**
+         * Send queued changes one at a time while holding the sending flag. Sends that complete
+         * immediately continue the loop; otherwise the loop resumes on the executor once the
+         * send completes.
+         */
+        private void drain() {
+            UserChange next;
+            while (!closed.get() && (next = queue.poll()) != null) {
+                CompletionStage<?> sent;
+                try {
+                    sent = sender.apply(next);
+                } catch (RuntimeException e) {
+                    close();
+                    return;
+                }
+                if (sent instanceof CompletableFuture<?> future && future.isDone()) {
+                    if (future.isCompletedExceptionally()) {
+                        close();
+                        return;
+                    }
+                    continue;
+                }
+                sent.whenCompleteAsync((result, error) -> {
+                    if (error != null) {
+                        close();
+                    } else {
+                        drain();
+                    }
+                }, managedExecutor);
+                return;
+            }
+            sending.set(false);
+            // A change queued after the poll above found nothing would otherwise wait for the next publish
+            scheduleDrain();
+        }
+
+        /**
+         * End the subscription and release its connection. Safe to call more than once.
+         */
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                queue.clear();
+                try {
+                    onClose.run();
+                } catch (RuntimeException e) {
+                    LOGGER.fine("UserChangeFeed: Failed to close subscriber: " + e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.tech11.usermanagement.services;
+
+import com.tech11.usermanagement.dto.response.UserResponse;
+import com.tech11.usermanagement.repository.UserRepository;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.Tuple;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * User Prefix Index
+ *
+ * Serves autocomplete from memory instead of a LIKE query per keystroke. Every user is indexed
+ * under its normalized first name, last name, full name and email (lower case, accents removed)
+ * in a sorted set of {@code key + '\0' + id} entries, so the users matching a prefix are the
+ * contiguous range of entries starting at that prefix.
+ *
+ * The index is loaded from the database once the application has started and then kept current
+ * from committed {@link UserChangeEvent}s. An entry is only replaced by a newer version, so the
+ * load and concurrent writes can interleave in any order.
+ */
+@ApplicationScoped
+public class UserPrefixIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(UserPrefixIndex.class.getName());
+
+    private static final char SEPARATOR = '\0';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final List<String> LOADED_ATTRIBUTES = List.of("id", "firstName", "lastName", "email", "version");
+
+    @Inject
+    private UserRepository userRepository;
+
+    @Resource
+    private ManagedExecutorService managedExecutor;
+
+    @Inject
+    @ConfigProperty(name = "suggest.max.results", defaultValue = "20")
+    int maxResults;
+
+    @Inject
+    @ConfigProperty(name = "suggest.load.batch.size", defaultValue = "1000")
+    int loadBatchSize;
+
+    private final ConcurrentSkipListSet<String> keys = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // Users deleted while the initial load runs, so the load does not re-add them
+    private final Set<String> deletedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = true;
+    private volatile boolean ready;
+
+    /**
+     * Load the index in the background once the application has started.
+     */
+    void start(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        managedExecutor.execute(this::load);
+    }
+
+    void onUserChange(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserChangeEvent event) {
+        if (event.getType() == UserChangeEvent.Type.DELETED) {
+            remove(event.getUserId());
+        } else {
+            put(event.getUser());
+        }
+    }
+
+    /**
+     * Find users whose first name, last name, full name or email starts with the query.
+     *
+     * @param query the typed prefix; case and accents are ignored
+     * @param limit maximum number of users, at most {@code suggest.max.results}
+     * @return matching users with ID, names and email, ordered by the matched key
+     * @throws ServiceUnavailableException while the index is still loading
+     */
+    public List<UserResponse> suggest(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Query must not be empty");
+        }
+        if (limit <= 0 || limit > maxResults) {
+            throw new BadRequestException("Limit must be between 1 and " + maxResults);
+        }
+        if (!ready) {
+            throw new ServiceUnavailableException("Suggestions are not available yet, please retry", 1L);
+        }
+
+        String prefix = normalize(query);
+        Set<String> ids = new LinkedHashSet<>();
+        for (String key : keys.tailSet(prefix)) {
+            if (!key.startsWith(prefix) || ids.size() >= limit) {
+                break;
+            }
+            ids.add(key.substring(key.lastIndexOf(SEPARATOR) + 1));
+        }
+
+        List<UserResponse> results = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Entry entry = entries.get(id);
+            // Absent if the user was removed since the key was read
+            if (entry != null) {
+                results.add(entry.toResponse());
+            }
+        }
+        return results;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Read all users in ID-keyset batches, selecting only the indexed columns.
+     */
+    void load() {
+        long startTime = System.currentTimeMillis();
+        try {
+            UUID lastId = null;
+            List<Tuple> rows;
+            do {
+                rows = userRepository.findAllProjectedAfter(LOADED_ATTRIBUTES, lastId, loadBatchSize);
+                for (Tuple row : rows) {
+                    lastId = row.get("id", UUID.class);
+                    put(lastId.toString().replace("-", ""), row.get("firstName", String.class),
+                            row.get("lastName", String.class), row.get("email", String.class),
+                            row.get("version", Long.class), true);
+                }
+            } while (rows.size() == loadBatchSize);
+
+            ready = true;
+            LOGGER.info("UserPrefixIndex: Indexed %d users in %dms".formatted(entries.size(), System.currentTimeMillis() - startTime));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "UserPrefixIndex: Failed to load users, suggestions stay unavailable", e);
+        } finally {
+            loading = false;
+            deletedDuringLoad.clear();
+        }
+    }
+
+    void put(UserResponse user) {
+        put(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getVersion(), false);
+    }
+
+    private void put(String id, String firstName, String lastName, String email, Long version, boolean fromLoad) {
+        Entry updated = new Entry(id, firstName, lastName, email, version == null ? 0 : version);
+        entries.compute(id, (key, current) -> {
+            // Checked under the entry's lock, which remove() takes after recording the deletion
+            if (fromLoad && deletedDuringLoad.contains(id)) {
+                return current;
+            }
+            if (current != null && current.version >= updated.version) {
+                return current;
+            }
+            if (current != null) {
+                current.keys().forEach(keys::remove);
+            }
+            keys.addAll(updated.keys());
+            return updated;
+        });
+    }
+
+    void remove(String id) {
+        if (loading) {
+            deletedDuringLoad.add(id);
+        }
+        entries.compute(id, (key, current) -> {
+            if (current != null) {
+                current.keys().forEach(keys::remove);
+            }
+            return null;
+        });
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String id, String firstName, String lastName, String email, long version) {
+
+        List<String> keys() {
+            List<String> keys = new ArrayList<>(4);
+            if (firstName != null) {
+                keys.add(normalize(firstName) + SEPARATOR + id);
+                if (lastName != null) {
+                    keys.add(normalize(firstName + " " + lastName) + SEPARATOR + id);
+                }
+            }
+            if (lastName != null) {
+                keys.add(normalize(lastName) + SEPARATOR + id);
+            }
+            if (email != null) {
+                keys.add(normalize(email) + SEPARATOR + id);
+            }
+            return keys;
+        }
+
+        UserResponse toResponse() {
+            UserResponse response = new UserResponse();
+            response.setId(id);
+            response.setFirstName(firstName);
+            response.setLastName(lastName);
+            response.setEmail(email);
+            response.setVersion(version);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,537 @@
+package com.tech11.usermanagement.services;
+
+import com.tech11.usermanagement.data.PaginatedResponse;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import com.tech11.usermanagement.repository.UserRepository;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.Tuple;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * User Search Index
+ *
+ * Typo-tolerant full-text search over first name, last name and email. Every word is split into
+ * trigrams ({@code "$jon$"} gives {@code $jo, jon, on$}) and the index maps each trigram to the
+ * sorted list of documents containing it. A query is scored by the trigrams it shares with each
+ * user, so "Jon Smth" still finds "John Smith" while the candidates come only from the posting
+ * lists of the query's trigrams, not from a table scan. The lists are merged in document order,
+ * so a query needs no memory per indexed user. Trigrams found in a large share of all users
+ * (such as those of a common mail domain) do not produce candidates on their own; they only add
+ * to the score of users found through the rarer trigrams, and at most {@code search.max.candidates}
+ * users are scored per query.
+ *
+ * Documents are numbered internally; an update adds a new document and leaves the old one dead
+ * until enough dead documents accumulate to rebuild the posting lists. The rebuild runs in the
+ * background while searches and updates continue, and writes made meanwhile are replayed onto it
+ * before it replaces the current lists. Like
+ * {@link UserPrefixIndex} the index is loaded from the database after startup and kept current
+ * from committed {@link UserChangeEvent}s, replacing a user only with a newer version.
+ */
+@ApplicationScoped
+public class UserSearchIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(UserSearchIndex.class.getName());
+
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final List<String> LOADED_ATTRIBUTES = List.of("id", "firstName", "lastName", "email", "version");
+    private static final int MIN_DEAD_BEFORE_COMPACTION = 1024;
+    // Below this size a posting list always produces candidates, however common its trigram
+    private static final int MIN_STOP_POSTINGS = 1000;
+
+    @Inject
+    private UserRepository userRepository;
+
+    @Resource
+    private ManagedExecutorService managedExecutor;
+
+    @Inject
+    @ConfigProperty(name = "search.max.page.size", defaultValue = "100")
+    int maxPageSize;
+
+    @Inject
+    @ConfigProperty(name = "search.max.window", defaultValue = "1000")
+    int maxWindow;
+
+    @Inject
+    @ConfigProperty(name = "search.min.match", defaultValue = "0.3")
+    double minMatch;
+
+    @Inject
+    @ConfigProperty(name = "search.load.batch.size", defaultValue = "1000")
+    int loadBatchSize;
+
+    @Inject
+    @ConfigProperty(name = "search.stop.trigram.share", defaultValue = "0.2")
+    double stopTrigramShare;
+
+    @Inject
+    @ConfigProperty(name = "search.max.candidates", defaultValue = "20000")
+    int maxCandidates;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock
+    private Corpus corpus = new Corpus(1024);
+    // Guarded by lock; IDs written while a compaction runs, null when none runs
+    private Set<String> changedDuringCompaction;
+
+    // Users deleted while the initial load runs, so the load does not re-add them
+    private final Set<String> deletedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = true;
+    private volatile boolean ready;
+
+    /**
+     * Build the index in the background once the application has started.
+     */
+    void start(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        managedExecutor.execute(this::load);
+    }
+
+    void onUserChange(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserChangeEvent event) {
+        if (event.getType() == UserChangeEvent.Type.DELETED) {
+            remove(event.getUserId());
+        } else {
+            put(event.getUser());
+        }
+    }
+
+    /**
+     * Search users by words of their names and email, tolerating typos.
+     *
+     * @param query one or more words; case and accents are ignored
+     * @param page page number (0-based)
+     * @param size page size, at most {@code search.max.page.size}
+     * @return users with ID, names and email, best match first
+     * @throws ServiceUnavailableException while the index is still being built
+     */
+    public PaginatedResponse<UserResponse> search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Query must not be empty");
+        }
+        if (page < 0 || size <= 0 || size > maxPageSize) {
+            throw new BadRequestException("Page must not be negative and size must be between 1 and " + maxPageSize);
+        }
+        if ((long) (page + 1) * size > maxWindow) {
+            throw new BadRequestException("Only the first " + maxWindow + " results can be paged through, refine the query");
+        }
+        if (!ready) {
+            throw new ServiceUnavailableException("Search is not available yet, please retry", 1L);
+        }
+
+        Set<String> queryTrigrams = trigrams(UserPrefixIndex.normalize(query));
+        if (queryTrigrams.isEmpty()) {
+            return page(List.of(), 0, page, size);
+        }
+        int required = Math.max(1, (int) Math.ceil(minMatch * queryTrigrams.size()));
+        int window = (page + 1) * size;
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(queryTrigrams.size());
+            for (String trigram : queryTrigrams) {
+                Postings list = corpus.postings.get(trigram);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            int stopSize = Math.max(MIN_STOP_POSTINGS, (int) (stopTrigramShare * corpus.liveCount()));
+            int selective = 0;
+            while (selective < lists.size() && lists.get(selective).size <= stopSize) {
+                selective++;
+            }
+            if (selective == 0 && !lists.isEmpty()) {
+                // Only common trigrams in the query, the rarest of them has to find the candidates
+                selective = 1;
+            }
+            List<Postings> stop = lists.subList(selective, lists.size());
+
+            // Smallest document first, merging the selective lists in document order
+            PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, selective), Comparator.comparingInt(Cursor::doc));
+            for (int i = 0; i < selective; i++) {
+                heads.add(new Cursor(lists.get(i)));
+            }
+            // Worst match on top, so it is the one evicted when the window is full
+            PriorityQueue<Hit> best = new PriorityQueue<>(window + 1, Hit::compareTo);
+            int total = 0;
+            int candidates = 0;
+            while (!heads.isEmpty() && candidates < maxCandidates) {
+                int doc = heads.peek().doc();
+                int shared = 0;
+                while (!heads.isEmpty() && heads.peek().doc() == doc) {
+                    Cursor cursor = heads.poll();
+                    shared++;
+                    if (cursor.advance()) {
+                        heads.add(cursor);
+                    }
+                }
+                candidates++;
+                Document document = corpus.documents[doc];
+                if (document == null || shared + stop.size() < required) {
+                    continue;
+                }
+                for (Postings list : stop) {
+                    if (list.contains(doc)) {
+                        shared++;
+                    }
+                }
+                if (shared < required) {
+                    continue;
+                }
+                total++;
+                best.add(new Hit(document, 2.0 * shared / (queryTrigrams.size() + document.trigramCount)));
+                if (best.size() > window) {
+                    best.poll();
+                }
+            }
+
+            Hit[] ranked = best.toArray(new Hit[0]);
+            Arrays.sort(ranked, (a, b) -> b.compareTo(a));
+            List<UserResponse> users = new ArrayList<>(size);
+            for (int i = page * size; i < ranked.length; i++) {
+                users.add(ranked[i].document.toResponse());
+            }
+            return page(users, total, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return corpus.documentsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Read all users in ID order, batch after batch, selecting only the indexed columns.
+     */
+    void load() {
+        long startTime = System.currentTimeMillis();
+        try {
+            UUID lastId = null;
+            List<Tuple> rows;
+            do {
+                rows = userRepository.findAllProjectedAfter(LOADED_ATTRIBUTES, lastId, loadBatchSize);
+                for (Tuple row : rows) {
+                    lastId = row.get("id", UUID.class);
+                    put(lastId.toString().replace("-", ""), row.get("firstName", String.class),
+                            row.get("lastName", String.class), row.get("email", String.class),
+                            row.get("version", Long.class), true);
+                }
+            } while (rows.size() == loadBatchSize);
+
+            ready = true;
+            LOGGER.info("UserSearchIndex: Indexed %d users in %dms".formatted(size(), System.currentTimeMillis() - startTime));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "UserSearchIndex: Failed to load users, search stays unavailable", e);
+        } finally {
+            loading = false;
+            deletedDuringLoad.clear();
+        }
+    }
+
+    void put(UserResponse user) {
+        put(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getVersion(), false);
+    }
+
+    private void put(String id, String firstName, String lastName, String email, Long version, boolean fromLoad) {
+        Document updated = new Document(id, firstName, lastName, email, version == null ? 0 : version);
+        lock.writeLock().lock();
+        try {
+            if (fromLoad && deletedDuringLoad.contains(id)) {
+                return;
+            }
+            Document current = corpus.get(id);
+            if (current != null && current.version >= updated.version) {
+                return;
+            }
+            corpus.remove(id);
+            corpus.add(updated);
+            changed(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                deletedDuringLoad.add(id);
+            }
+            if (corpus.remove(id)) {
+                changed(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Trigrams of every word, each word padded with {@code $} so that word starts and ends weigh in.
+     */
+    static Set<String> trigrams(String normalized) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : WORD_SEPARATORS.split(normalized)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "$" + word + "$";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Note a write and start a compaction once dead documents outnumber live ones.
+     */
+    private void changed(String id) {
+        if (changedDuringCompaction != null) {
+            changedDuringCompaction.add(id);
+            return;
+        }
+        if (corpus.deadCount < MIN_DEAD_BEFORE_COMPACTION || corpus.deadCount < corpus.liveCount()) {
+            return;
+        }
+        changedDuringCompaction = new HashSet<>();
+        try {
+            managedExecutor.execute(this::compact);
+        } catch (RejectedExecutionException e) {
+            changedDuringCompaction = null;
+            LOGGER.log(Level.WARNING, "UserSearchIndex: Compaction rejected, retrying on a later write", e);
+        }
+    }
+
+    /**
+     * Renumber the live documents into new posting lists without blocking searches or writes, then
+     * replay the users written in the meantime and swap the new lists in.
+     */
+    void compact() {
+        long startTime = System.currentTimeMillis();
+        Corpus rebuilt = null;
+        try {
+            List<Document> live;
+            lock.readLock().lock();
+            try {
+                live = corpus.liveDocuments();
+            } finally {
+                lock.readLock().unlock();
+            }
+            rebuilt = new Corpus(Math.max(1024, live.size() * 2));
+            for (Document document : live) {
+                rebuilt.add(document);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "UserSearchIndex: Compaction failed", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (String id : changedDuringCompaction) {
+                        rebuilt.remove(id);
+                        Document current = corpus.get(id);
+                        if (current != null) {
+                            rebuilt.add(current);
+                        }
+                    }
+                    corpus = rebuilt;
+                }
+                changedDuringCompaction = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        if (rebuilt != null) {
+            LOGGER.info("UserSearchIndex: Compacted to %d users in %dms".formatted(rebuilt.liveCount(), System.currentTimeMillis() - startTime));
+        }
+    }
+
+    private static PaginatedResponse<UserResponse> page(List<UserResponse> users, int total, int page, int size) {
+        int totalPages = (int) Math.ceil((double) total / size);
+        return new PaginatedResponse<>(users, page, size, total, totalPages, page == 0, page >= totalPages - 1);
+    }
+
+    /**
+     * Numbered documents and their posting lists; dead documents stay numbered until compaction.
+     */
+    private static final class Corpus {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<String, Integer> documentsById = new HashMap<>();
+        private Document[] documents;
+        private int documentCount;
+        private int deadCount;
+
+        Corpus(int capacity) {
+            documents = new Document[capacity];
+        }
+
+        Document get(String id) {
+            Integer doc = documentsById.get(id);
+            return doc == null ? null : documents[doc];
+        }
+
+        void add(Document document) {
+            if (documentCount == documents.length) {
+                documents = Arrays.copyOf(documents, documents.length * 2);
+            }
+            int doc = documentCount++;
+            documents[doc] = document;
+            documentsById.put(document.id, doc);
+            for (String trigram : document.trigrams()) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).add(doc);
+            }
+        }
+
+        boolean remove(String id) {
+            Integer doc = documentsById.remove(id);
+            if (doc == null) {
+                return false;
+            }
+            documents[doc] = null;
+            deadCount++;
+            return true;
+        }
+
+        int liveCount() {
+            return documentCount - deadCount;
+        }
+
+        List<Document> liveDocuments() {
+            List<Document> live = new ArrayList<>(liveCount());
+            for (int i = 0; i < documentCount; i++) {
+                if (documents[i] != null) {
+                    live.add(documents[i]);
+                }
+            }
+            return live;
+        }
+    }
+
+    /**
+     * Growable, ascending list of document numbers.
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = doc;
+        }
+
+        boolean contains(int doc) {
+            return Arrays.binarySearch(documents, 0, size, doc) >= 0;
+        }
+    }
+
+    /**
+     * Read position in a posting list during a merge.
+     */
+    private static final class Cursor {
+
+        private final Postings postings;
+        private int position;
+
+        Cursor(Postings postings) {
+            this.postings = postings;
+        }
+
+        int doc() {
+            return postings.documents[position];
+        }
+
+        boolean advance() {
+            return ++position < postings.size;
+        }
+    }
+
+    private static final class Document {
+
+        private final String id;
+        private final String firstName;
+        private final String lastName;
+        private final String email;
+        private final long version;
+        private final int trigramCount;
+
+        Document(String id, String firstName, String lastName, String email, long version) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.email = email;
+            this.version = version;
+            this.trigramCount = trigrams().size();
+        }
+
+        Set<String> trigrams() {
+            StringBuilder text = new StringBuilder();
+            for (String field : new String[] {firstName, lastName, email}) {
+                if (field != null) {
+                    text.append(field).append(' ');
+                }
+            }
+            return UserSearchIndex.trigrams(UserPrefixIndex.normalize(text.toString()));
+        }
+
+        UserResponse toResponse() {
+            UserResponse response = new UserResponse();
+            response.setId(id);
+            response.setFirstName(firstName);
+            response.setLastName(lastName);
+            response.setEmail(email);
+            response.setVersion(version);
+            return response;
+        }
+    }
+
+    /**
+     * A scored match, ordered by score and then by ID for stable pages.
+     */
+    private record Hit(Document document, double score) implements Comparable<Hit> {
+
+        @Override
+        public int compareTo(Hit other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : other.document.id.compareTo(document.id);
+        }
+    }
+}
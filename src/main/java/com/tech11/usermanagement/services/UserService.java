@@ -1,23 +1,53 @@
 package com.tech11.usermanagement.services;
 
+import com.tech11.usermanagement.actors.MessageBus;
+import com.tech11.usermanagement.actors.messages.UserMessages;
 import com.tech11.usermanagement.repository.UserRepository;
+import com.tech11.usermanagement.repository.UserSort;
 import com.tech11.usermanagement.validators.CreateUserRequestValidator;
 import com.tech11.usermanagement.validators.UpdateUserRequestValidator;
 import com.tech11.usermanagement.validators.ResetPasswordRequestValidator;
 import com.tech11.usermanagement.data.PaginatedResponse;
+import com.tech11.usermanagement.data.SyncPage;
+import com.tech11.usermanagement.dto.request.AuthenticateRequest;
 import com.tech11.usermanagement.dto.request.CreateUserRequest;
 import com.tech11.usermanagement.dto.request.ResetPasswordRequest;
 import com.tech11.usermanagement.dto.request.UpdateUserRequest;
+import com.tech11.usermanagement.dto.response.UserLookupResult;
 import com.tech11.usermanagement.dto.response.UserResponse;
 import com.tech11.usermanagement.entity.User;
+import com.tech11.usermanagement.entity.UserTombstone;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Tuple;
 import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.NotAuthorizedException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -25,12 +55,24 @@ import java.util.stream.Collectors;
 /**
  * Service for user management operations.
  * Provides business logic for user CRUD operations.
+ * Calls are admitted through the adaptive concurrency limiter, with writes shed before reads.
  */
 @ApplicationScoped
+@ConcurrencyLimited
 public class UserService {
 
     private static final Logger LOGGER = Logger.getLogger(UserService.class.getName());
 
+    /**
+     * Maximum number of IDs accepted by {@link #getUsersByIds(List)}.
+     */
+    private static final int MAX_BATCH_IDS = 500;
+
+    /**
+     * Maximum page size of {@link #getChangesSince(String, String, int)}.
+     */
+    private static final int MAX_SYNC_PAGE_SIZE = 1000;
+
     @Inject
     private UserRepository userRepository;
 
@@ -43,9 +85,55 @@ public class UserService {
     @Inject
     private ResetPasswordRequestValidator resetPasswordValidator;
 
+    @Inject
+    private PasswordHashingService passwordHashingService;
+
+    @Resource
+    private ManagedExecutorService managedExecutor;
+
+    @Inject
+    private LoginThrottle loginThrottle;
+
+    @Inject
+    private MessageBus messageBus;
+
+    @Inject
+    private Event<UserChangeEvent> userChanges;
+
+    /**
+     * Changes younger than this are left out of incremental sync pages, so a transaction that
+     * took its timestamp earlier but commits later is not skipped by a cursor that moved past it.
+     */
+    @Inject
+    @ConfigProperty(name = "sync.settle.millis", defaultValue = "1000")
+    long syncSettleMillis;
+
+    // Concurrent identical reads share one database call. Keys include the write generation, so a
+    // read that starts after a write on this instance never joins a call that began before it.
+    private final SingleFlight<List<Object>, Optional<User>> userLookups = new SingleFlight<>();
+    private final SingleFlight<List<Object>, PaginatedResponse<UserResponse>> pageQueries = new SingleFlight<>();
+    private final AtomicLong writeGeneration = new AtomicLong();
+
     public PaginatedResponse<UserResponse> getAllUsers(String firstName, String lastName, String email, int page, int size) {
-        LOGGER.info("Getting all users with filters - firstName: %s, lastName: %s, email: %s, page: %d, size: %d"
-                .formatted(firstName, lastName, email, page, size));
+        return getAllUsers(firstName, lastName, email, page, size, null);
+    }
+
+    /**
+     * Get users, optionally returning only a subset of fields.
+     * When fields are requested, only those columns are selected from the database.
+     *
+     * @param firstName first name prefix filter
+     * @param lastName last name prefix filter
+     * @param email email prefix filter
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @param fields comma-separated field names, or null for all fields
+     * @return paginated users
+     */
+    public PaginatedResponse<UserResponse> getAllUsers(String firstName, String lastName, String email,
+                                                       int page, int size, String fields) {
+        LOGGER.info("Getting all users with filters - firstName: %s, lastName: %s, email: %s, page: %d, size: %d, fields: %s"
+                .formatted(firstName, lastName, email, page, size, fields));
         
         try {
             // Validate pagination parameters
@@ -57,35 +145,10 @@ public class UserService {
                 LOGGER.warning("Invalid page size: " + size);
                 throw new BadRequestException("Page size must be between 1 and 100");
             }
-            
-            List<User> users;
-            long totalElements;
-            
-            if (firstName != null && !firstName.trim().isEmpty()) {
-                LOGGER.info("Filtering users by firstName starting with: " + firstName);
-                users = userRepository.findByFirstNameStartingWith(firstName.trim());
-                totalElements = users.size();
-            } else if (lastName != null && !lastName.trim().isEmpty()) {
-                LOGGER.info("Filtering users by lastName starting with: " + lastName);
-                users = userRepository.findByLastNameStartingWith(lastName.trim());
-                totalElements = users.size();
-            } else if (email != null && !email.trim().isEmpty()) {
-                LOGGER.info("Filtering users by email starting with: " + email);
-                users = userRepository.findByEmailStartingWith(email.trim());
-                totalElements = users.size();
-            } else {
-                LOGGER.info("Getting all users with pagination");
-                users = userRepository.findAll(page, size);
-                totalElements = userRepository.count();
-            }
-
-            List<UserResponse> userResponses = users.stream()
-                    .map(this::convertToResponse)
-                    .collect(Collectors.toList());
+            Set<String> projection = parseFields(fields);
+            List<Object> key = Arrays.asList(writeGeneration.get(), firstName, lastName, email, page, size, projection);
+            return pageQueries.execute(key, () -> loadPage(firstName, lastName, email, page, size, projection));
 
-            LOGGER.info("Successfully retrieved %d users".formatted(userResponses.size()));
-            return PaginatedResponse.of(userResponses, page, size, totalElements);
-            
         } catch (BadRequestException e) {
             LOGGER.warning("Bad request in getAllUsers: " + e.getMessage());
             throw e;
@@ -95,12 +158,50 @@ public class UserService {
         }
     }
 
+    /**
+     * Run the query for one page of users. Coalesced per distinct query by {@link #getAllUsers}.
+     */
+    private PaginatedResponse<UserResponse> loadPage(String firstName, String lastName, String email,
+                                                     int page, int size, Set<String> projection) {
+        List<UserResponse> userResponses;
+        long totalElements;
+        
+        if (firstName != null && !firstName.trim().isEmpty()) {
+            LOGGER.info("Filtering users by firstName starting with: " + firstName);
+            userResponses = projection == null
+                    ? convertAll(userRepository.findByFirstNameStartingWith(firstName.trim()))
+                    : convertAll(userRepository.findByPrefixProjected("firstName", firstName.trim(), projection), projection);
+            totalElements = userResponses.size();
+        } else if (lastName != null && !lastName.trim().isEmpty()) {
+            LOGGER.info("Filtering users by lastName starting with: " + lastName);
+            userResponses = projection == null
+                    ? convertAll(userRepository.findByLastNameStartingWith(lastName.trim()))
+                    : convertAll(userRepository.findByPrefixProjected("lastName", lastName.trim(), projection), projection);
+            totalElements = userResponses.size();
+        } else if (email != null && !email.trim().isEmpty()) {
+            LOGGER.info("Filtering users by email starting with: " + email);
+            userResponses = projection == null
+                    ? convertAll(userRepository.findByEmailStartingWith(email.trim()))
+                    : convertAll(userRepository.findByPrefixProjected("email", email.trim(), projection), projection);
+            totalElements = userResponses.size();
+        } else {
+            LOGGER.info("Getting all users with pagination");
+            userResponses = projection == null
+                    ? convertAll(userRepository.findAll(page, size))
+                    : convertAll(userRepository.findAllProjected(projection, page, size), projection);
+            totalElements = userRepository.count();
+        }
+
+        LOGGER.info("Successfully retrieved %d users".formatted(userResponses.size()));
+        return PaginatedResponse.of(userResponses, page, size, totalElements);
+    }
+
     public UserResponse getUserById(String id) {
         LOGGER.info("Getting user by ID: " + id);
         
         try {
             UUID uuid = convertHexToUUID(id);
-            User user = userRepository.findById(uuid)
+            User user = userLookups.execute(List.of(writeGeneration.get(), uuid), () -> userRepository.findById(uuid))
                     .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
             
             LOGGER.info("Successfully retrieved user: " + user.getEmail());
@@ -118,6 +219,261 @@ public class UserService {
         }
     }
 
+    /**
+     * Look up only the version of a user, used to answer conditional requests
+     * without loading and converting the full entity.
+     *
+     * @param id the user ID as hex string
+     * @return the current version of the user
+     */
+    public long getUserVersion(String id) {
+        try {
+            UUID uuid = convertHexToUUID(id);
+            return userRepository.findVersionById(uuid)
+                    .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
+
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Invalid user ID format: " + id + " - " + e.getMessage());
+            throw new BadRequestException("Invalid user ID format: " + e.getMessage());
+        } catch (NotFoundException e) {
+            LOGGER.warning("User not found with ID: " + id);
+            throw e;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving version of user with ID: " + id, e);
+            throw new InternalServerErrorException("Failed to retrieve user: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get several users by ID with as few queries as possible.
+     *
+     * @param ids user IDs as hex strings; duplicates are allowed
+     * @return one result per requested ID, in request order, with misses marked as not found
+     */
+    public List<UserLookupResult> getUsersByIds(List<String> ids) {
+        LOGGER.info("Getting %d users by ID".formatted(ids == null ? 0 : ids.size()));
+
+        try {
+            if (ids == null || ids.isEmpty()) {
+                throw new BadRequestException("At least one ID is required");
+            }
+            if (ids.size() > MAX_BATCH_IDS) {
+                throw new BadRequestException("At most " + MAX_BATCH_IDS + " IDs can be fetched at once");
+            }
+
+            Map<String, UUID> uuids = new LinkedHashMap<>();
+            for (String id : ids) {
+                uuids.computeIfAbsent(id, this::convertHexToUUID);
+            }
+
+            Map<UUID, UserResponse> usersById = userRepository.findByIds(new LinkedHashSet<>(uuids.values())).stream()
+                    .collect(Collectors.toMap(User::getUuidId, this::convertToResponse));
+
+            List<UserLookupResult> results = ids.stream()
+                    .map(id -> {
+                        UserResponse user = usersById.get(uuids.get(id));
+                        return user != null ? UserLookupResult.found(id, user) : UserLookupResult.notFound(id);
+                    })
+                    .toList();
+            LOGGER.info("Found %d of %d requested users".formatted(usersById.size(), uuids.size()));
+            return results;
+
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Invalid user ID format in batch - " + e.getMessage());
+            throw new BadRequestException("Invalid user ID format: " + e.getMessage());
+        } catch (BadRequestException e) {
+            LOGGER.warning("Bad request in getUsersByIds: " + e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving users by ID", e);
+            throw new InternalServerErrorException("Failed to retrieve users: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get users in a sort order, one keyset page at a time.
+     * Only sorts an index can deliver are accepted, see {@link UserSort}; a prefix filter is
+     * allowed on the sort's leading attribute, so filter and order use the same index range.
+     *
+     * @param sort comma-separated attributes, each optionally prefixed with - for descending
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param firstName first name prefix filter
+     * @param lastName last name prefix filter
+     * @param email email prefix filter
+     * @param size the page size
+     * @return users in sort order, with the cursor to continue from
+     */
+    public SyncPage<UserResponse> getSortedUsers(String sort, String cursor, String firstName, String lastName,
+                                                 String email, int size) {
+        LOGGER.info("Getting users sorted by: %s, cursor: %s, firstName: %s, lastName: %s, email: %s, size: %d"
+                .formatted(sort, cursor, firstName, lastName, email, size));
+
+        try {
+            if (size <= 0 || size > 100) {
+                LOGGER.warning("Invalid page size: " + size);
+                throw new BadRequestException("Page size must be between 1 and 100");
+            }
+            UserSort userSort = UserSort.parse(sort);
+            String filterAttribute = null;
+            String prefix = null;
+            if (firstName != null && !firstName.trim().isEmpty()) {
+                filterAttribute = "firstName";
+                prefix = firstName.trim();
+            } else if (lastName != null && !lastName.trim().isEmpty()) {
+                filterAttribute = "lastName";
+                prefix = lastName.trim();
+            } else if (email != null && !email.trim().isEmpty()) {
+                filterAttribute = "email";
+                prefix = email.trim();
+            }
+            if (filterAttribute != null && !filterAttribute.equals(userSort.getLeadingAttribute())) {
+                throw new BadRequestException("Filtering by %s requires a sort starting with %s"
+                        .formatted(filterAttribute, filterAttribute));
+            }
+            List<Object> after = null;
+            if (cursor != null) {
+                try {
+                    after = userSort.decodeCursor(cursor);
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    throw new BadRequestException("Invalid cursor for sort " + userSort.getRequested() + ": " + cursor);
+                }
+            }
+
+            // Fetch one extra row to tell whether more users follow
+            List<User> users = userRepository.findSorted(userSort, filterAttribute, prefix, after, size + 1);
+            boolean hasMore = users.size() > size;
+            if (hasMore) {
+                users = users.subList(0, size);
+            }
+            String nextCursor = users.isEmpty() ? cursor : userSort.encodeCursor(users.get(users.size() - 1));
+            LOGGER.info("Found %d sorted users, more: %s".formatted(users.size(), hasMore));
+            return new SyncPage<>(convertAll(users), nextCursor, hasMore);
+
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Invalid sort: " + sort + " - " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        } catch (BadRequestException e) {
+            LOGGER.warning("Bad request in getSortedUsers: " + e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving sorted users", e);
+            throw new InternalServerErrorException("Failed to retrieve users: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get users created, updated or deleted since a point in time, for incremental sync.
+     * Pages follow the (updatedAt, id) keyset, so each page costs one index range scan no matter
+     * how far the sync has progressed. Deleted users appear as ID-only entries marked deleted.
+     *
+     * @param updatedSince ISO local date-time to start from, inclusive; ignored when a cursor is given
+     * @param cursor the nextCursor of the previous page, or null
+     * @param size maximum number of entries
+     * @return the changes in (updatedAt, id) order, with the cursor to continue from
+     */
+    public SyncPage<UserResponse> getChangesSince(String updatedSince, String cursor, int size) {
+        LOGGER.info("Getting changes since: %s, cursor: %s, size: %d".formatted(updatedSince, cursor, size));
+
+        try {
+            if (size <= 0 || size > MAX_SYNC_PAGE_SIZE) {
+                throw new BadRequestException("Page size must be between 1 and " + MAX_SYNC_PAGE_SIZE);
+            }
+            LocalDateTime after;
+            UUID afterId = null;
+            if (cursor != null) {
+                String[] position = decodeSyncCursor(cursor);
+                after = LocalDateTime.parse(position[0]);
+                afterId = convertHexToUUID(position[1]);
+            } else if (updatedSince != null) {
+                after = LocalDateTime.parse(updatedSince.trim());
+            } else {
+                throw new BadRequestException("Either updatedSince or cursor is required");
+            }
+            LocalDateTime until = LocalDateTime.now().minusNanos(syncSettleMillis * 1_000_000L);
+
+            // Fetch one extra row from each source to tell whether more changes follow
+            List<User> updated = userRepository.findUpdatedAfter(after, afterId, until, size + 1);
+            List<UserTombstone> deleted = userRepository.findDeletedAfter(after, afterId, until, size + 1);
+            List<UserResponse> changes = mergeByKeyset(updated, deleted, size + 1);
+
+            boolean hasMore = changes.size() > size;
+            if (hasMore) {
+                changes = changes.subList(0, size);
+            }
+            String nextCursor = changes.isEmpty()
+                    ? cursor
+                    : encodeSyncCursor(changes.get(changes.size() - 1));
+            LOGGER.info("Found %d changes, more: %s".formatted(changes.size(), hasMore));
+            return new SyncPage<>(changes, nextCursor, hasMore);
+
+        } catch (DateTimeParseException e) {
+            LOGGER.warning("Invalid sync position: " + e.getMessage());
+            throw new BadRequestException("Invalid updatedSince or cursor: " + e.getParsedString());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Invalid sync cursor: " + cursor + " - " + e.getMessage());
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        } catch (BadRequestException e) {
+            LOGGER.warning("Bad request in getChangesSince: " + e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving changes", e);
+            throw new InternalServerErrorException("Failed to retrieve changes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Merge users and tombstones, each already in keyset order, into one list of at most limit entries.
+     * IDs are compared as hex strings, which orders them like the database compares UUIDs.
+     */
+    private List<UserResponse> mergeByKeyset(List<User> updated, List<UserTombstone> deleted, int limit) {
+        List<UserResponse> merged = new ArrayList<>(Math.min(limit, updated.size() + deleted.size()));
+        int u = 0;
+        int d = 0;
+        while (merged.size() < limit && (u < updated.size() || d < deleted.size())) {
+            boolean takeUser;
+            if (d >= deleted.size()) {
+                takeUser = true;
+            } else if (u >= updated.size()) {
+                takeUser = false;
+            } else {
+                User user = updated.get(u);
+                UserTombstone tombstone = deleted.get(d);
+                int byTime = user.getUpdatedAt().compareTo(tombstone.getDeletedAt());
+                takeUser = byTime < 0 || (byTime == 0 && user.getId().compareTo(tombstone.getId()) < 0);
+            }
+            merged.add(takeUser ? convertToResponse(updated.get(u++)) : convertTombstone(deleted.get(d++)));
+        }
+        return merged;
+    }
+
+    private UserResponse convertTombstone(UserTombstone tombstone) {
+        UserResponse response = new UserResponse();
+        response.setId(tombstone.getId());
+        response.setUpdatedAt(tombstone.getDeletedAt());
+        response.setVersion(tombstone.getVersion());
+        response.setDeleted(true);
+        return response;
+    }
+
+    private static String encodeSyncCursor(UserResponse last) {
+        String position = last.getUpdatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the timestamp and hex ID of a cursor
+     * @throws IllegalArgumentException if the cursor is not one produced by this service
+     */
+    private static String[] decodeSyncCursor(String cursor) {
+        String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = position.split("\\|");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return parts;
+    }
+
+    @ConcurrencyLimited(write = true)
     public UserResponse createUser(CreateUserRequest request) {
         LOGGER.info("Creating new user with email: " + request.getEmail());
         
@@ -130,24 +486,44 @@ public class UserService {
                     request.getFirstName(),
                     request.getLastName(),
                     request.getEmail(),
-                    request.getPassword(), // In a real application, this should be hashed
+                    passwordHashingService.hash(request.getPassword()),
                     request.getBirthday()
             );
 
             User savedUser = userRepository.save(user);
+            writeGeneration.incrementAndGet();
             LOGGER.info("Successfully created user with ID: " + savedUser.getId());
-            return convertToResponse(savedUser);
+            UserResponse response = convertToResponse(savedUser);
+            userChanges.fire(UserChangeEvent.created(response));
+            return response;
             
         } catch (BadRequestException e) {
             LOGGER.warning("Bad request in createUser: " + e.getMessage());
             throw e;
+        } catch (ServiceUnavailableException e) {
+            LOGGER.warning("Service unavailable in createUser: " + e.getMessage());
+            throw e;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error creating user with email: " + request.getEmail(), e);
             throw new InternalServerErrorException("Failed to create user: " + e.getMessage());
         }
     }
 
+    @ConcurrencyLimited(write = true)
     public UserResponse updateUser(String id, UpdateUserRequest request) {
+        return updateUser(id, request, null);
+    }
+
+    /**
+     * Update a user, optionally only if it is still at the version the client last saw.
+     *
+     * @param id the user ID as hex string
+     * @param request the fields to update
+     * @param expectedVersion the version from the client's If-Match, or null for an unconditional update
+     * @return the updated user
+     */
+    @ConcurrencyLimited(write = true)
+    public UserResponse updateUser(String id, UpdateUserRequest request, Long expectedVersion) {
         LOGGER.info("Updating user with ID: " + id);
         
         try {
@@ -155,30 +531,37 @@ public class UserService {
             UUID uuid = convertHexToUUID(id);
             updateUserValidator.validate(uuid, request);
 
-            User user = userRepository.findById(uuid)
-                    .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
-
-            // Update fields if provided
+            // Only the provided fields are written, in a single UPDATE statement
+            Map<String, Object> changes = new LinkedHashMap<>();
             if (request.getFirstName() != null) {
                 LOGGER.info("Updating firstName for user: " + id);
-                user.setFirstName(request.getFirstName());
+                changes.put("firstName", request.getFirstName());
             }
             if (request.getLastName() != null) {
                 LOGGER.info("Updating lastName for user: " + id);
-                user.setLastName(request.getLastName());
+                changes.put("lastName", request.getLastName());
             }
             if (request.getEmail() != null) {
                 LOGGER.info("Updating email for user: " + id + " to: " + request.getEmail());
-                user.setEmail(request.getEmail());
+                changes.put("email", request.getEmail());
             }
             if (request.getBirthday() != null) {
                 LOGGER.info("Updating birthday for user: " + id);
-                user.setBirthday(request.getBirthday());
+                changes.put("birthday", request.getBirthday());
             }
 
-            User updatedUser = userRepository.update(user);
+            User updatedUser = userRepository.updateFields(uuid, changes, expectedVersion)
+                    .orElseThrow(() -> noMatchingUser(uuid, id, expectedVersion));
+            UserResponse response = convertToResponse(updatedUser);
+            if (changes.isEmpty()) {
+                // Nothing was written, so cached reads stay valid and there is no change to publish
+                LOGGER.info("No fields to update for user with ID: " + id);
+                return response;
+            }
+            writeGeneration.incrementAndGet();
             LOGGER.info("Successfully updated user with ID: " + id);
-            return convertToResponse(updatedUser);
+            userChanges.fire(UserChangeEvent.updated(response));
+            return response;
             
         } catch (IllegalArgumentException e) {
             LOGGER.warning("Invalid user ID format: " + id + " - " + e.getMessage());
@@ -189,13 +572,33 @@ public class UserService {
         } catch (NotFoundException e) {
             LOGGER.warning("User not found with ID: " + id);
             throw e;
+        } catch (OptimisticLockException e) {
+            LOGGER.warning("Concurrent write in updateUser for user with ID: " + id);
+            throw concurrentWrite(id, expectedVersion);
+        } catch (ClientErrorException e) {
+            LOGGER.warning("Precondition failed in updateUser: " + e.getMessage());
+            throw e;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error updating user with ID: " + id, e);
             throw new InternalServerErrorException("Failed to update user: " + e.getMessage());
         }
     }
 
+    @ConcurrencyLimited(write = true)
     public UserResponse resetPassword(String id, ResetPasswordRequest request) {
+        return resetPassword(id, request, null);
+    }
+
+    /**
+     * Reset a user's password, optionally only if it is still at the version the client last saw.
+     *
+     * @param id the user ID as hex string
+     * @param request the new password
+     * @param expectedVersion the version from the client's If-Match, or null for an unconditional reset
+     * @return the updated user
+     */
+    @ConcurrencyLimited(write = true)
+    public UserResponse resetPassword(String id, ResetPasswordRequest request, Long expectedVersion) {
         LOGGER.info("Resetting password for user with ID: " + id);
         
         try {
@@ -203,16 +606,15 @@ public class UserService {
             resetPasswordValidator.validate(request);
 
             UUID uuid = convertHexToUUID(id);
-            User user = userRepository.findById(uuid)
-                    .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
-
-            // Update password (in a real application, this should be hashed)
-            user.setPassword(request.getNewPassword());
+            String passwordHash = passwordHashingService.hash(request.getNewPassword());
+            User updatedUser = userRepository.updatePassword(uuid, passwordHash, expectedVersion)
+                    .orElseThrow(() -> noMatchingUser(uuid, id, expectedVersion));
+            writeGeneration.incrementAndGet();
             LOGGER.info("Password updated for user: " + id);
-
-            User updatedUser = userRepository.update(user);
             LOGGER.info("Successfully reset password for user with ID: " + id);
-            return convertToResponse(updatedUser);
+            UserResponse response = convertToResponse(updatedUser);
+            userChanges.fire(UserChangeEvent.updated(response));
+            return response;
             
         } catch (IllegalArgumentException e) {
             LOGGER.warning("Invalid user ID format: " + id + " - " + e.getMessage());
@@ -223,22 +625,145 @@ public class UserService {
         } catch (NotFoundException e) {
             LOGGER.warning("User not found with ID: " + id);
             throw e;
+        } catch (OptimisticLockException e) {
+            LOGGER.warning("Concurrent write in resetPassword for user with ID: " + id);
+            throw concurrentWrite(id, expectedVersion);
+        } catch (ClientErrorException e) {
+            LOGGER.warning("Precondition failed in resetPassword: " + e.getMessage());
+            throw e;
+        } catch (ServiceUnavailableException e) {
+            LOGGER.warning("Service unavailable in resetPassword: " + e.getMessage());
+            throw e;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error resetting password for user with ID: " + id, e);
             throw new InternalServerErrorException("Failed to reset password: " + e.getMessage());
         }
     }
 
+    /**
+     * Verify a user's password. On success, a password stored in a legacy format or at a lower
+     * cost than configured is re-encoded in the background, so cost upgrades roll out as users
+     * log in without adding latency to the login itself.
+     *
+     * @param email the user's email
+     * @param rawPassword the password as entered
+     * @return the user if the password matches, empty otherwise
+     */
+    public Optional<UserResponse> verifyPassword(String email, String rawPassword) {
+        Optional<User> userOpt = userRepository.findByEmail(email);
+        if (userOpt.isEmpty()) {
+            // Hash anyway, so an unknown email takes as long to reject as a wrong password
+            passwordHashingService.verifyUnknownUser(rawPassword);
+            LOGGER.info("Password verification for unknown email: " + email);
+            return Optional.empty();
+        }
+
+        User user = userOpt.get();
+        if (!passwordHashingService.matches(rawPassword, user.getPassword())) {
+            LOGGER.info("Password verification failed for user: " + user.getId());
+            return Optional.empty();
+        }
+
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            upgradePasswordHash(user.getUuidId(), user.getPassword(), rawPassword);
+        }
+        return Optional.of(convertToResponse(user));
+    }
+
+    /**
+     * Authenticate a user by email and password.
+     * Attempts are throttled per client IP and per email before the password is hashed;
+     * each admitted attempt counts as a failure until the password is verified.
+     *
+     * @param request the credentials
+     * @param ipAddress the client address
+     * @param userAgent the client user agent
+     * @return the authenticated user
+     */
+    public UserResponse authenticate(AuthenticateRequest request, String ipAddress, String userAgent) {
+        LOGGER.info("Authenticating user with email: " + request.getEmail());
+
+        try {
+            loginThrottle.acquire(request.getEmail(), ipAddress);
+
+            Optional<UserResponse> verified;
+            try {
+                verified = verifyPassword(request.getEmail(), request.getPassword());
+            } catch (RuntimeException e) {
+                // No verdict on the password, so the attempt does not count as a failure
+                loginThrottle.release(request.getEmail());
+                throw e;
+            }
+            // A wrong password keeps the failure reserved by acquire
+            UserResponse user = verified.orElseThrow(() -> new NotAuthorizedException("Invalid email or password",
+                    Response.status(Response.Status.UNAUTHORIZED).build()));
+
+            boolean suspicious = loginThrottle.recordSuccess(request.getEmail()) > 0;
+            messageBus.sendUserLogin(new UserMessages.UserLogin(
+                    user.getId(), user.getEmail(), ipAddress, userAgent, suspicious));
+
+            LOGGER.info("Successfully authenticated user with ID: " + user.getId());
+            return user;
+
+        } catch (ClientErrorException e) {
+            LOGGER.warning("Authentication rejected: " + e.getMessage());
+            throw e;
+        } catch (ServiceUnavailableException e) {
+            LOGGER.warning("Service unavailable in authenticate: " + e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error authenticating user with email: " + request.getEmail(), e);
+            throw new InternalServerErrorException("Failed to authenticate: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Re-encode a verified password with the current format and cost, off the request path.
+     * The stored value is only replaced if it is still the one that was verified.
+     */
+    private void upgradePasswordHash(UUID uuid, String currentHash, String rawPassword) {
+        try {
+            passwordHashingService.hashAsync(rawPassword)
+                    .thenAcceptAsync(newHash -> {
+                        if (userRepository.rehashPassword(uuid, currentHash, newHash)) {
+                            LOGGER.info("Upgraded password hash for user: " + uuid);
+                        }
+                    }, managedExecutor)
+                    .exceptionally(e -> {
+                        LOGGER.log(Level.WARNING, "Failed to upgrade password hash for user: " + uuid, e);
+                        return null;
+                    });
+        } catch (ServiceUnavailableException e) {
+            LOGGER.info("Hashing pool busy, deferring password hash upgrade for user: " + uuid);
+        }
+    }
+
+    @ConcurrencyLimited(write = true)
     public void deleteUser(String id) {
+        deleteUser(id, null);
+    }
+
+    /**
+     * Delete a user, optionally only if it is still at the version the client last saw.
+     *
+     * @param id the user ID as hex string
+     * @param expectedVersion the version from the client's If-Match, or null for an unconditional delete
+     */
+    @ConcurrencyLimited(write = true)
+    public void deleteUser(String id, Long expectedVersion) {
         LOGGER.info("Deleting user with ID: " + id);
         
         try {
             UUID uuid = convertHexToUUID(id);
-            boolean deleted = userRepository.deleteById(uuid);
+            boolean deleted = expectedVersion == null
+                    ? userRepository.deleteById(uuid)
+                    : userRepository.deleteById(uuid, expectedVersion);
             if (!deleted) {
-                LOGGER.warning("User not found for deletion with ID: " + id);
-                throw new NotFoundException("User not found with id: " + id);
+                LOGGER.warning("User not deleted with ID: " + id);
+                throw noMatchingUser(uuid, id, expectedVersion);
             }
+            writeGeneration.incrementAndGet();
+            userChanges.fire(UserChangeEvent.deleted(id));
             
             LOGGER.info("Successfully deleted user with ID: " + id);
             
@@ -248,12 +773,113 @@ public class UserService {
         } catch (NotFoundException e) {
             LOGGER.warning("User not found with ID: " + id);
             throw e;
+        } catch (OptimisticLockException e) {
+            LOGGER.warning("Concurrent write in deleteUser for user with ID: " + id);
+            throw concurrentWrite(id, expectedVersion);
+        } catch (ClientErrorException e) {
+            LOGGER.warning("Precondition failed in deleteUser: " + e.getMessage());
+            throw e;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error deleting user with ID: " + id, e);
             throw new InternalServerErrorException("Failed to delete user: " + e.getMessage());
         }
     }
 
+    /**
+     * Build the exception for a conditional write that matched no row.
+     * Only on this failure path is the version looked up, to tell a missing user from a stale one.
+     *
+     * @param uuid the user ID
+     * @param id the user ID as hex string, for messages
+     * @param expectedVersion the version the client expected, or null
+     * @return 412 if the user exists at another version, 404 otherwise
+     */
+    private ClientErrorException noMatchingUser(UUID uuid, String id, Long expectedVersion) {
+        if (expectedVersion != null && userRepository.findVersionById(uuid).isPresent()) {
+            return new ClientErrorException("User has been modified since version " + expectedVersion + ": " + id,
+                    Response.Status.PRECONDITION_FAILED);
+        }
+        return new NotFoundException("User not found with id: " + id);
+    }
+
+    /**
+     * Build the exception for a write that lost a race with another write to the same user.
+     *
+     * @param id the user ID as hex string, for messages
+     * @param expectedVersion the version the client expected, or null
+     * @return 412 if the client sent a version, which is now stale, 409 otherwise
+     */
+    private ClientErrorException concurrentWrite(String id, Long expectedVersion) {
+        if (expectedVersion != null) {
+            return new ClientErrorException("User has been modified since version " + expectedVersion + ": " + id,
+                    Response.Status.PRECONDITION_FAILED);
+        }
+        return new ClientErrorException("User was modified concurrently, retry the request: " + id,
+                Response.Status.CONFLICT);
+    }
+
+    /**
+     * Parse a comma-separated fields parameter into the attributes to project.
+     *
+     * @param fields the raw parameter, may be null
+     * @return the requested attributes, or null when all fields are wanted
+     */
+    private Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> projection = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!UserRepository.PROJECTABLE_ATTRIBUTES.contains(name)) {
+                throw new BadRequestException("Unknown field: " + name);
+            }
+            projection.add(name);
+        }
+        return projection.isEmpty() ? null : projection;
+    }
+
+    private List<UserResponse> convertAll(List<User> users) {
+        return users.stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+
+    private List<UserResponse> convertAll(List<Tuple> tuples, Set<String> projection) {
+        return tuples.stream()
+                .map(tuple -> convertToResponse(tuple, projection))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convert a projection tuple to a UserResponse with only the projected fields set.
+     *
+     * @param tuple the tuple, with elements aliased by attribute name
+     * @param projection the projected attributes
+     * @return user response
+     */
+    private UserResponse convertToResponse(Tuple tuple, Set<String> projection) {
+        UserResponse response = new UserResponse();
+        for (String attribute : projection) {
+            Object value = tuple.get(attribute);
+            switch (attribute) {
+                case "id" -> response.setId(value == null ? null : value.toString().replace("-", ""));
+                case "firstName" -> response.setFirstName((String) value);
+                case "lastName" -> response.setLastName((String) value);
+                case "email" -> response.setEmail((String) value);
+                case "birthday" -> response.setBirthday((LocalDate) value);
+                case "createdAt" -> response.setCreatedAt((LocalDateTime) value);
+                case "updatedAt" -> response.setUpdatedAt((LocalDateTime) value);
+                case "version" -> response.setVersion((Long) value);
+                default -> throw new IllegalStateException("Unmapped attribute: " + attribute);
+            }
+        }
+        return response;
+    }
+
     /**
      * Convert User entity to UserResponse.
      *
@@ -0,0 +1,22 @@
+-- Users, see com.tech11.usermanagement.entity.User
+-- Plain SQL accepted by both H2 and PostgreSQL
+CREATE TABLE users (
+    id UUID PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    birthday DATE NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT DEFAULT 0,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+-- Keyset order of incremental sync
+CREATE INDEX idx_users_updated_at_id ON users (updated_at, id);
+
+-- Sorted browsing, see UserSort
+CREATE INDEX idx_users_last_first_created ON users (last_name, first_name, created_at DESC, id DESC);
+CREATE INDEX idx_users_first_last_id ON users (first_name, last_name, id);
+CREATE INDEX idx_users_created_at_id ON users (created_at, id);
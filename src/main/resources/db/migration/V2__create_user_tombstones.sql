@@ -0,0 +1,8 @@
+-- Deleted users for incremental sync, see com.tech11.usermanagement.entity.UserTombstone
+CREATE TABLE user_tombstones (
+    id UUID PRIMARY KEY,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    version BIGINT
+);
+
+CREATE INDEX idx_user_tombstones_deleted_at_id ON user_tombstones (deleted_at, id);
@@ -0,0 +1,42 @@
+package com.tech11.usermanagement.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.tech11.usermanagement.data.ApiResponse;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CborMessageBodyWriterTest {
+
+    private final CborMessageBodyWriter writer = new CborMessageBodyWriter();
+
+    @Test
+    void writeTo_WhenFieldsAreSelected_ShouldOnlyWriteThoseKeys() throws Exception {
+        // Arrange
+        UserResponse user = new UserResponse();
+        user.setId("550e8400e29b41d4a716446655440000");
+        user.setEmail("zoe@example.com");
+        ApiResponse<List<UserResponse>> response = new ApiResponse<>(200, "Success", List.of(user));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.writeTo(response, ApiResponse.class, ApiResponse.class, null,
+                CborMessageBodyWriter.APPLICATION_CBOR_TYPE, null, out);
+
+        // Assert
+        JsonNode tree = new CBORMapper().readTree(out.toByteArray());
+        JsonNode written = tree.path("data").path("data").get(0);
+        List<String> keys = new ArrayList<>();
+        written.fieldNames().forEachRemaining(keys::add);
+        assertEquals(Set.of("id", "email"), Set.copyOf(keys));
+        assertEquals("zoe@example.com", written.get("email").asText());
+        assertFalse(tree.path("data").has("pageData"));
+    }
+}
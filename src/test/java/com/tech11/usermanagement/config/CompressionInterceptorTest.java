@@ -0,0 +1,136 @@
+package com.tech11.usermanagement.config;
+
+import com.tech11.usermanagement.data.ApiResponse;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompressionInterceptorTest {
+
+    @Mock
+    private HttpHeaders requestHeaders;
+
+    @Mock
+    private WriterInterceptorContext context;
+
+    @InjectMocks
+    private CompressionInterceptor compressionInterceptor;
+
+    private final MultivaluedMap<String, Object> responseHeaders = new MultivaluedHashMap<>();
+    private final ByteArrayOutputStream wire = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        compressionInterceptor.enabled = true;
+        compressionInterceptor.thresholdBytes = 1024;
+        compressionInterceptor.level = 6;
+    }
+
+    @Test
+    void negotiate_ShouldHonourQualityValuesAndWildcard() {
+        // Act & Assert
+        assertEquals("gzip", CompressionInterceptor.negotiate("gzip, deflate, br"));
+        assertEquals("deflate", CompressionInterceptor.negotiate("gzip;q=0, deflate"));
+        assertEquals("deflate", CompressionInterceptor.negotiate("gzip;q=0, *"));
+        assertEquals("gzip", CompressionInterceptor.negotiate("*"));
+        assertNull(CompressionInterceptor.negotiate("identity"));
+        assertNull(CompressionInterceptor.negotiate(null));
+    }
+
+    @Test
+    void aroundWriteTo_WhenPageIsLarge_ShouldGzipAndTagCoding() throws Exception {
+        // Arrange
+        byte[] json = userPageJson(100);
+        stubBody(json, "gzip, deflate");
+        responseHeaders.putSingle(HttpHeaders.ETAG, new EntityTag("abc-1"));
+
+        // Act
+        compressionInterceptor.aroundWriteTo(context);
+
+        // Assert
+        assertEquals("gzip", responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(new EntityTag("abc-1-gzip"), responseHeaders.getFirst(HttpHeaders.ETAG));
+        assertEquals("Accept, Accept-Encoding", responseHeaders.getFirst(HttpHeaders.VARY));
+        assertTrue(wire.size() * 5 < json.length, "100 users: " + json.length + " bytes, gzip " + wire.size());
+        assertArrayEquals(json, new GZIPInputStream(new ByteArrayInputStream(wire.toByteArray())).readAllBytes());
+    }
+
+    @Test
+    void aroundWriteTo_WhenEtagIsHeaderString_ShouldParseAndTagCoding() throws Exception {
+        // Arrange
+        stubBody(userPageJson(100), "deflate");
+        responseHeaders.putSingle(HttpHeaders.ETAG, "\"abc-1\"");
+
+        // Act
+        compressionInterceptor.aroundWriteTo(context);
+
+        // Assert
+        assertEquals(new EntityTag("abc-1-deflate"), responseHeaders.getFirst(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void aroundWriteTo_WhenBodyIsBelowThreshold_ShouldSendUncompressed() throws Exception {
+        // Arrange
+        byte[] json = userPageJson(1);
+        stubBody(json, "gzip");
+
+        // Act
+        compressionInterceptor.aroundWriteTo(context);
+
+        // Assert
+        assertFalse(responseHeaders.containsKey(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(json, wire.toByteArray());
+    }
+
+    private void stubBody(byte[] body, String acceptEncoding) throws Exception {
+        AtomicReference<OutputStream> stream = new AtomicReference<>(wire);
+        when(requestHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn(acceptEncoding);
+        when(context.getHeaders()).thenReturn(responseHeaders);
+        when(context.getOutputStream()).thenAnswer(invocation -> stream.get());
+        doAnswer(invocation -> {
+            stream.set(invocation.getArgument(0));
+            return null;
+        }).when(context).setOutputStream(any());
+        doAnswer(invocation -> {
+            stream.get().write(body);
+            return null;
+        }).when(context).proceed();
+    }
+
+    private static byte[] userPageJson(int count) throws Exception {
+        List<UserResponse> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(new UserResponse("%032x".formatted(i), "First" + i, "Last" + i, "user" + i + "@example.com",
+                    LocalDate.of(1990, 1, 1).plusDays(i), LocalDateTime.of(2025, 7, 4, 12, 0).plusMinutes(i), null, 1L));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new UserResponseJsonWriter().writeTo(new ApiResponse<>(200, "Success", users, 1L), ApiResponse.class,
+                UserResponseJsonWriter.LIST, null, MediaType.APPLICATION_JSON_TYPE, null, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,65 @@
+package com.tech11.usermanagement.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private ResourceInfo resourceInfo;
+
+    @Mock
+    private HttpServletRequest httpRequest;
+
+    @Mock
+    private ContainerRequestContext context;
+
+    @InjectMocks
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter.enabled = true;
+        rateLimitFilter.clientRate = 0.01;
+        rateLimitFilter.clientBurst = 3;
+        rateLimitFilter.routeRate = 0.01;
+        rateLimitFilter.routeBurst = 2;
+        rateLimitFilter.maxClients = 100;
+        when(httpRequest.getRemoteAddr()).thenReturn("10.0.0.1");
+    }
+
+    @Test
+    void filter_WhenRouteIsCongested_ShouldGiveClientTokenBack() throws Exception {
+        // Arrange
+        Method busy = Object.class.getMethod("toString");
+        Method quiet = Object.class.getMethod("hashCode");
+        when(resourceInfo.getResourceMethod()).thenReturn(busy);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            rateLimitFilter.filter(context);
+        }
+        when(resourceInfo.getResourceMethod()).thenReturn(quiet);
+        rateLimitFilter.filter(context);
+
+        // Assert
+        verify(context, times(3)).abortWith(any());
+
+        // Act & Assert
+        rateLimitFilter.filter(context);
+        verify(context, times(4)).abortWith(any());
+    }
+}
@@ -0,0 +1,58 @@
+package com.tech11.usermanagement.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_ShouldAdmitBurstThenReject() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 5);
+        long now = 42 * SECOND;
+
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, bucket.tryAcquire(now));
+        }
+        long wait = bucket.tryAcquire(now);
+        assertTrue(wait > 0 && wait <= SECOND / 10);
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtConfiguredRate() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 1);
+        long now = 42 * SECOND;
+        assertEquals(0L, bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now) > 0);
+
+        // Act & Assert
+        assertEquals(0L, bucket.tryAcquire(now + SECOND / 10));
+        assertFalse(bucket.isIdle(now + SECOND / 10));
+        assertTrue(bucket.isIdle(now + SECOND));
+    }
+
+    @Test
+    void refund_ShouldReturnTokenWithoutExceedingBurst() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 2);
+        long now = 42 * SECOND;
+        assertEquals(0L, bucket.tryAcquire(now));
+        assertEquals(0L, bucket.tryAcquire(now));
+
+        // Act
+        bucket.refund(now);
+        bucket.refund(now);
+        bucket.refund(now);
+
+        // Assert
+        assertTrue(bucket.isIdle(now));
+        assertEquals(0L, bucket.tryAcquire(now));
+        assertEquals(0L, bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now) > 0);
+    }
+}
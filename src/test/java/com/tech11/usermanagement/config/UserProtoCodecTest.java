@@ -0,0 +1,134 @@
+package com.tech11.usermanagement.config;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnknownFieldSet;
+import com.tech11.usermanagement.data.ApiResponse;
+import com.tech11.usermanagement.data.PaginatedResponse;
+import com.tech11.usermanagement.dto.request.CreateUserRequest;
+import com.tech11.usermanagement.dto.response.UserLookupResult;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserProtoCodecTest {
+
+    private static final String ID = "550e8400e29b41d4a716446655440000";
+
+    private final UserResponse user = new UserResponse(ID, "Zoë", "Doe", "zoe@example.com",
+            LocalDate.of(1970, 1, 1), LocalDateTime.of(1970, 1, 1, 0, 0, 1, 500_000), null, 3L);
+
+    @Test
+    void encodeUser_ShouldWriteSchemaFieldsAndKeepZeroValuesThatArePresent() throws Exception {
+        // Act
+        UnknownFieldSet fields = UnknownFieldSet.parseFrom(UserProtoCodec.encodeUser(user));
+
+        // Assert
+        assertEquals(ByteString.fromHex(ID), fields.getField(1).getLengthDelimitedList().get(0));
+        assertEquals("Zoë", fields.getField(2).getLengthDelimitedList().get(0).toStringUtf8());
+        assertEquals("zoe@example.com", fields.getField(4).getLengthDelimitedList().get(0).toStringUtf8());
+        assertEquals(List.of(0L), fields.getField(5).getVarintList());
+        assertEquals(List.of(1_000_500L), fields.getField(6).getVarintList());
+        assertFalse(fields.hasField(7));
+        assertEquals(List.of(3L), fields.getField(8).getVarintList());
+    }
+
+    @Test
+    void encodeBatchGetUsersResponse_ShouldOmitUserForMisses() throws Exception {
+        // Arrange
+        String missing = "00000000000000000000000000000001";
+
+        // Act
+        UnknownFieldSet response = UnknownFieldSet.parseFrom(UserProtoCodec.encodeBatchGetUsersResponse(
+                List.of(UserLookupResult.found(ID, user), UserLookupResult.notFound(missing))));
+
+        // Assert
+        List<ByteString> results = response.getField(1).getLengthDelimitedList();
+        assertEquals(2, results.size());
+        UnknownFieldSet found = UnknownFieldSet.parseFrom(results.get(0));
+        assertEquals(ByteString.fromHex(ID), found.getField(1).getLengthDelimitedList().get(0));
+        assertArrayEquals(UserProtoCodec.encodeUser(user), found.getField(2).getLengthDelimitedList().get(0).toByteArray());
+        UnknownFieldSet notFound = UnknownFieldSet.parseFrom(results.get(1));
+        assertEquals(ByteString.fromHex(missing), notFound.getField(1).getLengthDelimitedList().get(0));
+        assertFalse(notFound.hasField(2));
+    }
+
+    @Test
+    void decodeRequests_ShouldReadFieldsAndSkipUnknownOnes() throws Exception {
+        // Arrange
+        ByteArrayOutputStream search = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(search);
+        out.writeString(2, "Do");
+        out.writeInt32(4, 3);
+        out.writeString(99, "from a newer client");
+        out.flush();
+
+        ByteArrayOutputStream create = new ByteArrayOutputStream();
+        out = CodedOutputStream.newInstance(create);
+        out.writeString(1, "John");
+        out.writeString(4, "securePassword123");
+        out.writeInt32(5, (int) LocalDate.of(1990, 1, 1).toEpochDay());
+        out.flush();
+
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        out = CodedOutputStream.newInstance(batch);
+        out.writeByteArray(1, HexFormat.of().parseHex(ID));
+        out.writeByteArray(1, HexFormat.of().parseHex(ID));
+        out.flush();
+
+        // Act
+        UserProtoCodec.SearchQuery query = UserProtoCodec.decodeSearchUsersRequest(search.toByteArray());
+        CreateUserRequest request = UserProtoCodec.decodeCreateUserRequest(create.toByteArray());
+        List<String> ids = UserProtoCodec.decodeBatchGetUsersRequest(batch.toByteArray());
+
+        // Assert
+        assertEquals(new UserProtoCodec.SearchQuery(null, "Do", null, 3, 10), query);
+        assertEquals("John", request.getFirstName());
+        assertNull(request.getEmail());
+        assertEquals(LocalDate.of(1990, 1, 1), request.getBirthday());
+        assertEquals(List.of(ID, ID), ids);
+    }
+
+    @Test
+    void decodeGetUserRequest_WhenTruncated_ShouldThrowBadRequest() {
+        // Arrange
+        byte[] truncated = {0x0A, 0x10, 0x55};
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> UserProtoCodec.decodeGetUserRequest(truncated));
+    }
+
+    @Test
+    void encodeSearchUsersResponse_ShouldBeMuchSmallerThanJson() throws Exception {
+        // Arrange
+        List<UserResponse> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(new UserResponse("%032x".formatted(i), "First" + i, "Last" + i, "user" + i + "@example.com",
+                    LocalDate.of(1990, 1, 1).plusDays(i), LocalDateTime.of(2025, 7, 4, 12, 0).plusMinutes(i), null, 1L));
+        }
+        PaginatedResponse<UserResponse> page = PaginatedResponse.of(users, 0, 100, 250);
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        new UserResponseJsonWriter().writeTo(new ApiResponse<>(200, "Success", users, 1L), ApiResponse.class,
+                UserResponseJsonWriter.LIST, null, MediaType.APPLICATION_JSON_TYPE, null, json);
+
+        // Act
+        byte[] proto = UserProtoCodec.encodeSearchUsersResponse(page);
+
+        // Assert
+        UnknownFieldSet fields = UnknownFieldSet.parseFrom(proto);
+        assertEquals(100, fields.getField(1).getLengthDelimitedList().size());
+        assertEquals(List.of(250L), fields.getField(4).getVarintList());
+        assertEquals(List.of(3L), fields.getField(5).getVarintList());
+        assertTrue(proto.length * 2 < json.size(), "JSON " + json.size() + " bytes, protobuf " + proto.length);
+    }
+}
@@ -0,0 +1,83 @@
+package com.tech11.usermanagement.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech11.usermanagement.data.ApiResponse;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserResponseJsonWriterTest {
+
+    private final UserResponseJsonWriter writer = new UserResponseJsonWriter();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final UserResponse user = new UserResponse(
+            "550e8400e29b41d4a716446655440000", "Zoë", "O\"Brien\n", "zoe@example.com",
+            LocalDate.of(1990, 1, 5), LocalDateTime.of(2025, 7, 4, 12, 0, 0, 120_000_000),
+            null, 3L);
+
+    @Test
+    void isWriteable_ShouldOnlyAcceptUserResponseTypes() {
+        // Act & Assert
+        assertTrue(writer.isWriteable(ApiResponse.class, UserResponseJsonWriter.SINGLE, null, MediaType.APPLICATION_JSON_TYPE));
+        assertTrue(writer.isWriteable(ApiResponse.class, UserResponseJsonWriter.LIST, null, MediaType.APPLICATION_JSON_TYPE));
+        assertFalse(writer.isWriteable(ApiResponse.class, ApiResponse.class, null, MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    void writeTo_WhenSingleUser_ShouldWriteEscapedFieldsAndIsoDates() throws Exception {
+        // Arrange
+        ApiResponse<UserResponse> response = new ApiResponse<>(200, "Success (in 3ms)", user);
+
+        // Act
+        JsonNode json = write(response);
+
+        // Assert
+        assertEquals(200, json.get("statusCode").asInt());
+        assertEquals("Success (in 3ms)", json.get("message").asText());
+        assertFalse(json.get("data").has("pageData"));
+        JsonNode data = json.get("data").get("data");
+        assertEquals("Zoë", data.get("firstName").asText());
+        assertEquals("O\"Brien\n", data.get("lastName").asText());
+        assertEquals("1990-01-05", data.get("birthday").asText());
+        assertEquals("2025-07-04T12:00:00.12", data.get("createdAt").asText());
+        assertFalse(data.has("updatedAt"));
+        assertEquals(3, data.get("version").asLong());
+    }
+
+    @Test
+    void writeTo_WhenUserList_ShouldWritePageDataAndAllUsers() throws Exception {
+        // Arrange
+        UserResponse projected = new UserResponse();
+        projected.setEmail("jane@example.com");
+        ApiResponse<List<UserResponse>> response = new ApiResponse<>(200, "Success", List.of(user, projected), 5L);
+        response.getData().setPageData(new ApiResponse.PageData(1, 10, 1, 2, 2));
+
+        // Act
+        JsonNode json = write(response);
+
+        // Assert
+        assertEquals(2, json.get("data").get("pageData").get("totalItems").asInt());
+        JsonNode users = json.get("data").get("data");
+        assertEquals(2, users.size());
+        assertEquals("550e8400e29b41d4a716446655440000", users.get(0).get("id").asText());
+        assertEquals(1, users.get(1).size());
+        assertEquals("jane@example.com", users.get(1).get("email").asText());
+    }
+
+    private JsonNode write(ApiResponse<?> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(response, ApiResponse.class, UserResponseJsonWriter.SINGLE, null,
+                MediaType.APPLICATION_JSON_TYPE, null, out);
+        return objectMapper.readTree(out.toString(StandardCharsets.UTF_8));
+    }
+}
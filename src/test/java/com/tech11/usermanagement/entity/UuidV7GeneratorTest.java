@@ -0,0 +1,112 @@
+package com.tech11.usermanagement.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_751_587_200_000L; // 2025-07-04T00:00:00Z
+
+    @Test
+    void next_ShouldEncodeTimestampVersionAndVariant() {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+
+        // Act
+        UUID uuid = generator.next();
+
+        // Assert
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(NOW, uuid.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void next_WithinOneMillisecond_ShouldIncreaseAndBorrowNextMillisecondOnCounterOverflow() {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+
+        // Act
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            uuids.add(generator.next());
+        }
+
+        // Assert
+        assertIncreasing(uuids);
+        assertEquals(NOW, uuids.get(4095).getMostSignificantBits() >>> 16);
+        assertEquals(NOW + 1, uuids.get(4096).getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void next_WhenClockStepsBack_ShouldKeepIncreasing() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+        UUID before = generator.next();
+
+        // Act
+        clock.set(NOW - 1000);
+        UUID after = generator.next();
+
+        // Assert
+        assertIncreasing(List.of(before, after));
+    }
+
+    @Test
+    void next_FromManyThreads_ShouldBeUniqueAndIncreasingPerThread() throws Exception {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<UUID> all = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // Act
+            List<Future<List<UUID>>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    List<UUID> uuids = new ArrayList<>(10_000);
+                    for (int i = 0; i < 10_000; i++) {
+                        uuids.add(generator.next());
+                    }
+                    return uuids;
+                }));
+            }
+
+            // Assert
+            for (Future<List<UUID>> result : results) {
+                List<UUID> uuids = result.get();
+                assertIncreasing(uuids);
+                all.addAll(uuids);
+            }
+            assertEquals(80_000, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compare the way databases order UUIDs: unsigned, most significant bits first.
+     */
+    private static void assertIncreasing(List<UUID> uuids) {
+        for (int i = 1; i < uuids.size(); i++) {
+            UUID previous = uuids.get(i - 1);
+            UUID current = uuids.get(i);
+            int byHigh = Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits());
+            assertTrue(byHigh < 0 || (byHigh == 0
+                            && Long.compareUnsigned(previous.getLeastSignificantBits(), current.getLeastSignificantBits()) < 0),
+                    "Not increasing at " + i + ": " + previous + " >= " + current);
+        }
+    }
+}
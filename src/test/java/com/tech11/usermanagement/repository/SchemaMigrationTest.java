@@ -0,0 +1,69 @@
+package com.tech11.usermanagement.repository;
+
+import org.flywaydb.core.api.output.MigrateResult;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigrationTest {
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+    }
+
+    @Test
+    void migrate_OnEmptyDatabase_ShouldCreateTablesAndIndexes() throws Exception {
+        // Act
+        MigrateResult result = SchemaMigration.migrate(dataSource);
+
+        // Assert
+        assertEquals(2, result.migrationsExecuted);
+        Set<String> indexes = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES")) {
+            while (rows.next()) {
+                indexes.add(rows.getString(1).toLowerCase());
+            }
+        }
+        assertTrue(indexes.containsAll(Set.of("idx_users_updated_at_id", "idx_users_last_first_created",
+                "idx_users_first_last_id", "idx_users_created_at_id", "idx_user_tombstones_deleted_at_id")), indexes::toString);
+    }
+
+    @Test
+    void migrate_WhenAlreadyMigrated_ShouldKeepData() throws Exception {
+        // Arrange
+        SchemaMigration.migrate(dataSource);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO users (id, first_name, last_name, email, password, birthday, created_at, updated_at, version) "
+                    + "VALUES (RANDOM_UUID(), 'John', 'Doe', 'john@example.com', 'x', DATE '1990-01-01', LOCALTIMESTAMP, LOCALTIMESTAMP, 0)");
+        }
+
+        // Act
+        MigrateResult result = SchemaMigration.migrate(dataSource);
+
+        // Assert
+        assertEquals(0, result.migrationsExecuted);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+            rows.next();
+            assertEquals(1, rows.getInt(1));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.tech11.usermanagement.resource;
+
+import jakarta.ws.rs.ClientErrorException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagsTest {
+
+    private static final String USER_ID = "0190a1b2c3d47e8f9a0b1c2d3e4f5a6b";
+
+    @Test
+    void expectedVersion_ShouldReadStrongTagWithCodingSuffix() {
+        // Act
+        Long version = EntityTags.expectedVersion("\"" + USER_ID + "-3-gzip\"", USER_ID);
+
+        // Assert
+        assertEquals(3L, version);
+    }
+
+    @Test
+    void expectedVersion_WhenTagIsWeak_ShouldFailPrecondition() {
+        // Act & Assert
+        ClientErrorException exception = assertThrows(ClientErrorException.class,
+                () -> EntityTags.expectedVersion("W/\"" + USER_ID + "-3\"", USER_ID));
+        assertEquals(412, exception.getResponse().getStatus());
+    }
+}
@@ -0,0 +1,107 @@
+package com.tech11.usermanagement.services;
+
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long WINDOW_NANOS = 100_000_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter();
+        limiter.initialLimit = 4;
+        limiter.minLimit = 2;
+        limiter.maxLimit = 50;
+        limiter.writeShare = 0.5;
+        limiter.rttTolerance = 2.0;
+        limiter.smoothing = 0.2;
+        limiter.updateIntervalMillis = 100;
+        limiter.clock = now::get;
+        limiter.init();
+    }
+
+    @Test
+    void acquire_WhenLimitReached_ShouldShedWritesBeforeReads() {
+        // Arrange
+        limiter.acquire(true);
+        limiter.acquire(true);
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> limiter.acquire(true));
+        limiter.acquire(false);
+        limiter.acquire(false);
+        assertThrows(ServiceUnavailableException.class, () -> limiter.acquire(false));
+        assertEquals(4, limiter.getInFlight());
+        assertEquals(2, limiter.getRejectedCount());
+
+        limiter.release();
+        assertDoesNotThrow(() -> limiter.acquire(false));
+    }
+
+    @Test
+    void onSample_WhenLatencyIsStableUnderLoad_ShouldRaiseLimit() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire(false);
+        }
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            sampleWindow(1_000_000L);
+        }
+
+        // Assert
+        assertTrue(limiter.getLimit() > 4);
+    }
+
+    @Test
+    void onSample_WithinWindow_ShouldNotChangeLimit() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire(false);
+        }
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(1_000_000L);
+        }
+
+        // Assert
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void onSample_WhenLatencyClimbs_ShouldLowerLimit() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire(false);
+        }
+        for (int i = 0; i < 50; i++) {
+            sampleWindow(1_000_000L);
+        }
+        int raised = limiter.getLimit();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            sampleWindow(50_000_000L);
+        }
+
+        // Assert
+        assertTrue(limiter.getLimit() < raised);
+    }
+
+    private void sampleWindow(long rttNanos) {
+        limiter.onSample(rttNanos);
+        limiter.onSample(rttNanos);
+        now.addAndGet(WINDOW_NANOS);
+    }
+}
@@ -0,0 +1,116 @@
+package com.tech11.usermanagement.services;
+
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.HttpHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        loginThrottle = new LoginThrottle();
+        loginThrottle.windowSeconds = 60;
+        loginThrottle.buckets = 6;
+        loginThrottle.maxAttemptsPerIp = 3;
+        loginThrottle.maxFailuresPerEmail = 2;
+        loginThrottle.maxEntries = 6;
+        loginThrottle.maxOverflowAttempts = 2;
+        loginThrottle.clock = now::get;
+        loginThrottle.init();
+    }
+
+    @Test
+    void acquire_WhenIpExceedsLimit_ShouldRejectWithRetryAfter() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        // Act
+        ClientErrorException exception = assertThrows(ClientErrorException.class,
+                () -> loginThrottle.acquire("other@example.com", "10.0.0.1"));
+
+        // Assert
+        assertEquals(429, exception.getResponse().getStatus());
+        assertEquals("60", exception.getResponse().getHeaderString(HttpHeaders.RETRY_AFTER));
+        assertDoesNotThrow(() -> loginThrottle.acquire("other@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    void acquire_WhenEmailHasTooManyFailures_ShouldRejectUntilWindowSlides() {
+        // Arrange
+        loginThrottle.acquire("John.Doe@example.com", "10.0.0.1");
+        loginThrottle.acquire("john.doe@example.com", "10.0.0.2");
+
+        // Act & Assert
+        assertEquals(2, loginThrottle.recentFailures("john.doe@example.com"));
+        assertThrows(ClientErrorException.class, () -> loginThrottle.acquire("john.doe@example.com", "10.0.0.1"));
+        assertEquals(2, loginThrottle.recentFailures("john.doe@example.com"));
+
+        now.addAndGet(60_000L);
+        assertEquals(0, loginThrottle.recentFailures("john.doe@example.com"));
+        assertDoesNotThrow(() -> loginThrottle.acquire("john.doe@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void release_ShouldGiveBackReservedFailure() {
+        // Arrange
+        loginThrottle.acquire("john.doe@example.com", "10.0.0.1");
+
+        // Act
+        loginThrottle.release("john.doe@example.com");
+
+        // Assert
+        assertEquals(0, loginThrottle.recentFailures("john.doe@example.com"));
+    }
+
+    @Test
+    void recordSuccess_ShouldClearFailuresAndReportEarlierOnes() {
+        // Arrange
+        loginThrottle.acquire("john.doe@example.com", "10.0.0.1");
+        loginThrottle.acquire("john.doe@example.com", "10.0.0.1");
+
+        // Act
+        int earlierFailures = loginThrottle.recordSuccess("john.doe@example.com");
+
+        // Assert
+        assertEquals(1, earlierFailures);
+        assertEquals(0, loginThrottle.recentFailures("john.doe@example.com"));
+        assertEquals(2, loginThrottle.trackedKeys());
+        loginThrottle.acquire("john.doe@example.com", "10.0.0.1");
+        assertEquals(1, loginThrottle.recentFailures("john.doe@example.com"));
+    }
+
+    @Test
+    void acquire_WhenKeyLimitReached_ShouldKeepFailuresAndCountNewKeysTogether() {
+        // Arrange
+        loginThrottle.acquire("user@example.com", "10.0.0.1");
+        loginThrottle.acquire("other@example.com", "10.0.0.2");
+        loginThrottle.acquire("third@example.com", "10.0.0.1");
+
+        // Act
+        loginThrottle.acquire("fourth@example.com", "10.0.0.4");
+        loginThrottle.acquire("fifth@example.com", "10.0.0.5");
+        ClientErrorException exception = assertThrows(ClientErrorException.class,
+                () -> loginThrottle.acquire("sixth@example.com", "10.0.0.6"));
+
+        // Assert
+        assertEquals(429, exception.getResponse().getStatus());
+        assertEquals(5, loginThrottle.trackedKeys());
+        assertEquals(0, loginThrottle.recentFailures("fourth@example.com"));
+        assertEquals(1, loginThrottle.recentFailures("user@example.com"));
+        assertDoesNotThrow(() -> loginThrottle.acquire("user@example.com", "10.0.0.1"));
+
+        now.addAndGet(60_000L);
+        assertDoesNotThrow(() -> loginThrottle.acquire("sixth@example.com", "10.0.0.6"));
+        assertEquals(2, loginThrottle.trackedKeys());
+    }
+}
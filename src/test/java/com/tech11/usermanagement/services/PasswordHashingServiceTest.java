@@ -0,0 +1,83 @@
+package com.tech11.usermanagement.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        passwordHashingService = new PasswordHashingService();
+        passwordHashingService.iterations = 1000;
+        passwordHashingService.poolSize = 2;
+        passwordHashingService.queueCapacity = 4;
+        passwordHashingService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void hash_ShouldEncodeSchemeCostAndSalt() {
+        // Act
+        String hash = passwordHashingService.hash("password123");
+
+        // Assert
+        assertTrue(hash.startsWith("$pbkdf2-sha256$i=1000$"));
+        assertNotEquals(hash, passwordHashingService.hash("password123"));
+    }
+
+    @Test
+    void matches_WhenPasswordIsCorrect_ShouldReturnTrue() {
+        // Arrange
+        String hash = passwordHashingService.hash("password123");
+
+        // Act & Assert
+        assertTrue(passwordHashingService.matches("password123", hash));
+        assertFalse(passwordHashingService.matches("password124", hash));
+    }
+
+    @Test
+    void matches_WhenHashIsMalformed_ShouldReturnFalse() {
+        // Act & Assert
+        assertFalse(passwordHashingService.matches("password123", "$pbkdf2-sha256$broken"));
+    }
+
+    @Test
+    void matches_WhenStoredValueIsLegacyPlainText_ShouldCompareDirectly() {
+        // Act & Assert
+        assertEquals(PasswordHashingService.LEGACY_PLAIN_FORMAT, passwordHashingService.formatVersion("password123"));
+        assertTrue(passwordHashingService.matches("password123", "password123"));
+        assertFalse(passwordHashingService.matches("password124", "password123"));
+    }
+
+    @Test
+    void needsRehash_ShouldFlagLegacyAndLowerCostHashes() {
+        // Arrange
+        String currentHash = passwordHashingService.hash("password123");
+        passwordHashingService.iterations = 2000;
+
+        // Act & Assert
+        assertTrue(passwordHashingService.needsRehash("password123"));
+        assertTrue(passwordHashingService.needsRehash(currentHash));
+        assertFalse(passwordHashingService.needsRehash(passwordHashingService.hash("password123")));
+    }
+
+    @Test
+    void hash_ShouldRecordQueueMetrics() {
+        // Act
+        passwordHashingService.hash("password123");
+
+        // Assert
+        assertEquals(1, passwordHashingService.getCompletedCount());
+        assertEquals(0, passwordHashingService.getRejectedCount());
+        assertTrue(passwordHashingService.getAverageQueueTimeMillis() >= 0.0);
+    }
+}
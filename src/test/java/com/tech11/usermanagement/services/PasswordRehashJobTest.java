@@ -0,0 +1,59 @@
+package com.tech11.usermanagement.services;
+
+import com.tech11.usermanagement.repository.UserRepository;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordRehashJobTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private ManagedScheduledExecutorService scheduler;
+
+    @Mock
+    private ScheduledFuture<Object> task;
+
+    @InjectMocks
+    private PasswordRehashJob job;
+
+    @BeforeEach
+    void setUp() {
+        job.enabled = true;
+        job.intervalSeconds = 30;
+        job.batchSize = 50;
+        job.maxCpuLoad = 0.5;
+    }
+
+    @Test
+    void runBatch_WhenNoLegacyPasswordsLeft_ShouldCancelSchedule() {
+        // Arrange
+        doReturn(task).when(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(30L), eq(30L), eq(TimeUnit.SECONDS));
+        when(userRepository.findPasswordsNotInFormat(PasswordHashingService.CURRENT_FORMAT_PREFIX, 50)).thenReturn(List.of());
+        job.start(new Object());
+
+        // Act
+        job.runBatch();
+
+        // Assert
+        verify(task).cancel(false);
+        verify(passwordHashingService, never()).hash(any());
+    }
+}
@@ -0,0 +1,133 @@
+package com.tech11.usermanagement.services;
+
+import com.tech11.usermanagement.dto.response.UserChange;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.ws.rs.ClientErrorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserChangeFeedTest {
+
+    private UserChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new UserChangeFeed();
+        feed.historySize = 4;
+        feed.subscriberBufferSize = 2;
+        feed.maxSubscribers = 10;
+        feed.managedExecutor = mock(ManagedExecutorService.class);
+        // Run drains inline, so sends are visible as soon as publish returns
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(feed.managedExecutor).execute(any(Runnable.class));
+        feed.init();
+    }
+
+    @Test
+    void subscribe_WhenSinceIsBuffered_ShouldReplayMissedChangesThenStreamNewOnes() {
+        // Arrange
+        publishUpdates(3);
+        List<Long> received = new ArrayList<>();
+
+        // Act
+        feed.subscribe(1L, change -> {
+            received.add(change.getCursor());
+            return CompletableFuture.completedFuture(null);
+        }, () -> { });
+        UserChange deleted = feed.publish(UserChangeEvent.deleted("u9"));
+
+        // Assert
+        assertEquals(List.of(2L, 3L, 4L), received);
+        assertEquals("DELETED", deleted.getType());
+        assertNull(deleted.getUser());
+    }
+
+    @Test
+    void subscribe_WhenSinceIsNoLongerBuffered_ShouldThrowGone() {
+        // Arrange
+        publishUpdates(6);
+
+        // Act & Assert
+        ClientErrorException gone = assertThrows(ClientErrorException.class,
+                () -> feed.subscribe(1L, change -> CompletableFuture.completedFuture(null), () -> { }));
+        assertEquals(410, gone.getResponse().getStatus());
+        assertDoesNotThrow(() -> feed.subscribe(2L, change -> CompletableFuture.completedFuture(null), () -> { }));
+    }
+
+    @Test
+    void publish_WhenSubscriberFallsBehind_ShouldDisconnectOnlyThatSubscriber() {
+        // Arrange
+        AtomicBoolean slowClosed = new AtomicBoolean();
+        CompletableFuture<Void> stalled = new CompletableFuture<>();
+        UserChangeFeed.Subscription slow = feed.subscribe(null, change -> stalled, () -> slowClosed.set(true));
+        List<Long> fastReceived = new ArrayList<>();
+        UserChangeFeed.Subscription fast = feed.subscribe(null, change -> {
+            fastReceived.add(change.getCursor());
+            return CompletableFuture.completedFuture(null);
+        }, () -> { });
+
+        // Act: one change in flight and two queued fill the slow subscriber, the fourth overflows it
+        publishUpdates(4);
+
+        // Assert
+        assertTrue(slow.isClosed());
+        assertTrue(slowClosed.get());
+        assertFalse(fast.isClosed());
+        assertEquals(List.of(1L, 2L, 3L, 4L), fastReceived);
+        assertEquals(1, feed.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_WhenSendFails_ShouldCloseSubscription() {
+        // Arrange
+        UserChangeFeed.Subscription subscription = feed.subscribe(null,
+                change -> CompletableFuture.failedFuture(new IllegalStateException("client gone")), () -> { });
+
+        // Act
+        publishUpdates(1);
+
+        // Assert
+        assertTrue(subscription.isClosed());
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    @Test
+    void publish_ShouldOnlyEnqueueAndLeaveSendingToExecutor() {
+        // Arrange
+        ManagedExecutorService deferred = mock(ManagedExecutorService.class);
+        feed.managedExecutor = deferred;
+        List<Long> received = new ArrayList<>();
+        UserChangeFeed.Subscription subscription = feed.subscribe(null, change -> {
+            received.add(change.getCursor());
+            return CompletableFuture.completedFuture(null);
+        }, () -> { });
+
+        // Act
+        publishUpdates(2);
+
+        // Assert
+        assertTrue(received.isEmpty());
+        assertEquals(2, subscription.queued());
+        verify(deferred, times(1)).execute(any(Runnable.class));
+    }
+
+    private void publishUpdates(int count) {
+        for (int i = 0; i < count; i++) {
+            UserResponse user = new UserResponse();
+            user.setId("u" + i);
+            feed.publish(UserChangeEvent.updated(user));
+        }
+    }
+}
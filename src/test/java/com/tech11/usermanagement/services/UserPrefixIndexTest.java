@@ -0,0 +1,141 @@
+package com.tech11.usermanagement.services;
+
+import com.tech11.usermanagement.dto.response.UserResponse;
+import com.tech11.usermanagement.repository.UserRepository;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.persistence.Tuple;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrefixIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ManagedExecutorService managedExecutor;
+
+    @InjectMocks
+    private UserPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index.maxResults = 20;
+        index.loadBatchSize = 1000;
+    }
+
+    @Test
+    void suggest_WhenNotLoaded_ShouldThrowServiceUnavailable() {
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> index.suggest("jo", 10));
+    }
+
+    @Test
+    void suggest_ShouldMatchNamesAndEmailIgnoringCaseAndAccents() {
+        // Arrange
+        load();
+        index.put(user("a1", "José", "Smith", "jsmith@example.com", 1L));
+        index.put(user("b2", "Anna", "Jones", "anna@example.com", 1L));
+        index.put(user("c3", "Bob", "Brown", "bob@example.com", 1L));
+
+        // Act & Assert
+        assertEquals(List.of("b2", "a1"), ids(index.suggest("JO", 10)));
+        assertEquals(List.of("a1"), ids(index.suggest("jose sm", 10)));
+        assertEquals(List.of("b2"), ids(index.suggest("anna@", 10)));
+        assertEquals(List.of("b2"), ids(index.suggest("jo", 1)));
+        assertTrue(index.suggest("zz", 10).isEmpty());
+    }
+
+    @Test
+    void put_ShouldReplaceKeysOfOlderVersionAndIgnoreStaleOnes() {
+        // Arrange
+        load();
+        index.put(user("a1", "John", "Doe", "john@example.com", 2L));
+
+        // Act
+        index.put(user("a1", "Jack", "Doe", "jack@example.com", 3L));
+        index.put(user("a1", "John", "Doe", "john@example.com", 2L));
+
+        // Assert
+        assertTrue(index.suggest("john", 10).isEmpty());
+        List<UserResponse> jack = index.suggest("jack", 10);
+        assertEquals(1, jack.size());
+        assertEquals("jack@example.com", jack.get(0).getEmail());
+    }
+
+    @Test
+    void remove_ShouldDropAllKeysOfUser() {
+        // Arrange
+        load();
+        index.put(user("a1", "John", "Doe", "john@example.com", 1L));
+
+        // Act
+        index.remove("a1");
+
+        // Assert
+        assertTrue(index.suggest("j", 10).isEmpty());
+        assertTrue(index.suggest("doe", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void suggest_WhenLimitExceedsMaximum_ShouldThrowBadRequest() {
+        // Arrange
+        load();
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> index.suggest("jo", 21));
+        assertThrows(BadRequestException.class, () -> index.suggest(" ", 10));
+    }
+
+    @Test
+    void load_ShouldContinueEachBatchAfterTheLastId() {
+        // Arrange
+        index.loadBatchSize = 1;
+        UUID firstId = UUID.randomUUID();
+        Tuple row = mock(Tuple.class);
+        when(row.get("id", UUID.class)).thenReturn(firstId);
+        when(row.get("firstName", String.class)).thenReturn("Anna");
+        when(row.get("lastName", String.class)).thenReturn("Jones");
+        when(row.get("email", String.class)).thenReturn("anna@example.com");
+        when(row.get("version", Long.class)).thenReturn(1L);
+        when(userRepository.findAllProjectedAfter(anyCollection(), isNull(), eq(1))).thenReturn(List.of(row));
+        when(userRepository.findAllProjectedAfter(anyCollection(), eq(firstId), eq(1))).thenReturn(List.of());
+
+        // Act
+        index.load();
+
+        // Assert
+        assertTrue(index.isReady());
+        assertEquals(1, index.size());
+        verify(userRepository, never()).findAllProjected(anyCollection(), anyInt(), anyInt());
+    }
+
+    private void load() {
+        when(userRepository.findAllProjectedAfter(anyCollection(), isNull(), eq(1000))).thenReturn(List.of());
+        index.load();
+        assertTrue(index.isReady());
+    }
+
+    private static UserResponse user(String id, String firstName, String lastName, String email, Long version) {
+        return new UserResponse(id, firstName, lastName, email, null, null, null, version);
+    }
+
+    private static List<String> ids(List<UserResponse> users) {
+        return users.stream().map(UserResponse::getId).toList();
+    }
+}
@@ -0,0 +1,193 @@
+package com.tech11.usermanagement.services;
+
+import com.tech11.usermanagement.data.PaginatedResponse;
+import com.tech11.usermanagement.dto.response.UserResponse;
+import com.tech11.usermanagement.repository.UserRepository;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ManagedExecutorService managedExecutor;
+
+    @InjectMocks
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index.maxPageSize = 100;
+        index.maxWindow = 1000;
+        index.minMatch = 0.3;
+        index.loadBatchSize = 1000;
+        index.stopTrigramShare = 0.2;
+        index.maxCandidates = 20000;
+    }
+
+    @Test
+    void search_WhenNotLoaded_ShouldThrowServiceUnavailable() {
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> index.search("john", 0, 10));
+    }
+
+    @Test
+    void search_WithTypos_ShouldRankClosestUserFirst() {
+        // Arrange
+        load();
+        index.put(user("a1", "John", "Smith", "john.smith@example.com", 1L));
+        index.put(user("b2", "Johanna", "Smithers", "jo@example.com", 1L));
+        index.put(user("c3", "Maria", "Garcia", "maria@example.com", 1L));
+
+        // Act
+        PaginatedResponse<UserResponse> result = index.search("Jon Smth", 0, 10);
+
+        // Assert
+        assertEquals("a1", result.getData().get(0).getId());
+        assertTrue(ids(result).stream().noneMatch("c3"::equals));
+        assertEquals(List.of("c3"), ids(index.search("GARCÍA", 0, 10)));
+    }
+
+    @Test
+    void search_ShouldPageThroughResultsInStableOrder() {
+        // Arrange
+        load();
+        for (int i = 0; i < 5; i++) {
+            index.put(user("id" + i, "Anna", "Berg", "anna" + i + "@example.com", 1L));
+        }
+
+        // Act
+        PaginatedResponse<UserResponse> first = index.search("anna berg", 0, 2);
+        PaginatedResponse<UserResponse> last = index.search("anna berg", 2, 2);
+
+        // Assert
+        assertEquals(5, first.getTotalElements());
+        assertEquals(3, first.getTotalPages());
+        assertEquals(List.of("id0", "id1"), ids(first));
+        assertEquals(List.of("id4"), ids(last));
+    }
+
+    @Test
+    void putAndRemove_ShouldKeepIndexCurrent() {
+        // Arrange
+        load();
+        index.put(user("a1", "John", "Doe", "john@example.com", 2L));
+
+        // Act
+        index.put(user("a1", "Peter", "Doe", "peter@example.com", 3L));
+        index.put(user("a1", "John", "Doe", "john@example.com", 2L));
+
+        // Assert
+        assertTrue(index.search("john", 0, 10).getData().isEmpty());
+        assertEquals(List.of("a1"), ids(index.search("peter", 0, 10)));
+
+        // Act
+        index.remove("a1");
+
+        // Assert
+        assertTrue(index.search("peter doe", 0, 10).getData().isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void put_WhenManyUpdates_ShouldCompactWithoutLosingUsers() {
+        // Arrange
+        List<Runnable> compactions = new ArrayList<>();
+        doAnswer(inv -> compactions.add(inv.getArgument(0, Runnable.class))).when(managedExecutor).execute(any(Runnable.class));
+        load();
+        index.put(user("keep", "Clara", "Stone", "clara@example.com", 1L));
+
+        // Act
+        for (long version = 1; version <= 3000; version++) {
+            index.put(user("busy", "Bob", "Miller" + version, "bob@example.com", version));
+        }
+        // Written while the compaction is pending, replayed before it is swapped in
+        index.put(user("late", "Lena", "Late", "lena@example.com", 1L));
+        index.remove("keep");
+        index.put(user("keep", "Clara", "Stone", "clara@example.com", 2L));
+        assertEquals(1, compactions.size());
+        compactions.get(0).run();
+
+        // Assert
+        assertEquals(3, index.size());
+        assertEquals(List.of("late"), ids(index.search("lena late", 0, 10)));
+        assertEquals(List.of("keep"), ids(index.search("clara", 0, 10)));
+        assertEquals("busy", index.search("miller3000", 0, 10).getData().get(0).getId());
+    }
+
+    @Test
+    void search_WhenTrigramIsCommon_ShouldNotMatchOnItAlone() {
+        // Arrange
+        load();
+        for (int i = 0; i < 1500; i++) {
+            index.put(user("u" + i, "User", "Number" + i, "u" + i + "@example.com", 1L));
+        }
+        index.put(user("keep", "Clara", "Stone", "clara@example.com", 1L));
+
+        // Act
+        PaginatedResponse<UserResponse> result = index.search("clara example", 0, 10);
+
+        // Assert
+        assertEquals(List.of("keep"), ids(result));
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void search_WhenCandidatesExceedLimit_ShouldStopScoring() {
+        // Arrange
+        load();
+        index.maxCandidates = 100;
+        for (int i = 0; i < 1500; i++) {
+            index.put(user("u" + i, "User", "Number" + i, "u" + i + "@example.com", 1L));
+        }
+
+        // Act
+        PaginatedResponse<UserResponse> result = index.search("example", 0, 10);
+
+        // Assert
+        assertEquals(100, result.getTotalElements());
+        assertEquals(10, result.getData().size());
+    }
+
+    @Test
+    void search_WhenPageBeyondWindow_ShouldThrowBadRequest() {
+        // Arrange
+        load();
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> index.search("anna", 10, 100));
+        assertThrows(BadRequestException.class, () -> index.search("anna", 0, 101));
+        assertThrows(BadRequestException.class, () -> index.search("", 0, 10));
+    }
+
+    private void load() {
+        when(userRepository.findAllProjectedAfter(anyCollection(), isNull(), eq(1000))).thenReturn(List.of());
+        index.load();
+        assertTrue(index.isReady());
+    }
+
+    private static UserResponse user(String id, String firstName, String lastName, String email, Long version) {
+        return new UserResponse(id, firstName, lastName, email, null, null, null, version);
+    }
+
+    private static List<String> ids(PaginatedResponse<UserResponse> result) {
+        return result.getData().stream().map(UserResponse::getId).toList();
+    }
+}
@@ -1,17 +1,31 @@
 package com.tech11.usermanagement.services;
+import com.tech11.usermanagement.actors.MessageBus;
+import com.tech11.usermanagement.actors.messages.UserMessages;
 import com.tech11.usermanagement.repository.UserRepository;
+import com.tech11.usermanagement.repository.UserSort;
 import com.tech11.usermanagement.services.UserService;
 import com.tech11.usermanagement.validators.CreateUserRequestValidator;
 import com.tech11.usermanagement.validators.UpdateUserRequestValidator;
 import com.tech11.usermanagement.validators.ResetPasswordRequestValidator;
 import com.tech11.usermanagement.data.PaginatedResponse;
+import com.tech11.usermanagement.data.SyncPage;
+import com.tech11.usermanagement.dto.request.AuthenticateRequest;
 import com.tech11.usermanagement.dto.request.CreateUserRequest;
 import com.tech11.usermanagement.dto.request.ResetPasswordRequest;
 import com.tech11.usermanagement.dto.request.UpdateUserRequest;
+import com.tech11.usermanagement.dto.response.UserLookupResult;
 import com.tech11.usermanagement.dto.response.UserResponse;
 import com.tech11.usermanagement.entity.User;
+import com.tech11.usermanagement.entity.UserTombstone;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.event.Event;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Tuple;
 import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.NotAuthorizedException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.ServiceUnavailableException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,8 +37,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -45,6 +61,21 @@ class UserServiceTest {
     @Mock
     private ResetPasswordRequestValidator resetPasswordValidator;
 
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private ManagedExecutorService managedExecutor;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private MessageBus messageBus;
+
+    @Mock
+    private Event<UserChangeEvent> userChanges;
+
     @InjectMocks
     private UserService userService;
 
@@ -112,6 +143,33 @@ class UserServiceTest {
         verify(userRepository).count();
     }
 
+    @Test
+    void getAllUsers_WithFields_ShouldUseProjectionQuery() {
+        // Arrange
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("id")).thenReturn(TEST_USER_ID);
+        when(tuple.get("email")).thenReturn("john.doe@example.com");
+        when(userRepository.findAllProjected(anyCollection(), eq(0), eq(10))).thenReturn(List.of(tuple));
+        when(userRepository.count()).thenReturn(1L);
+
+        // Act
+        PaginatedResponse<UserResponse> response = userService.getAllUsers(null, null, null, 0, 10, "id,email");
+
+        // Assert
+        UserResponse user = response.getData().get(0);
+        assertEquals(TEST_USER_ID_STRING, user.getId());
+        assertEquals("john.doe@example.com", user.getEmail());
+        assertNull(user.getFirstName());
+        verify(userRepository, never()).findAll(anyInt(), anyInt());
+    }
+
+    @Test
+    void getAllUsers_WithUnknownField_ShouldThrowBadRequestException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userService.getAllUsers(null, null, null, 0, 10, "id,password"));
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     void getUserById_WhenUserExists_ShouldReturnUser() {
         // Arrange
@@ -139,10 +197,33 @@ class UserServiceTest {
         verify(userRepository).findById(NON_EXISTENT_USER_ID);
     }
 
+    @Test
+    void getUserVersion_WhenUserExists_ShouldReturnVersionWithoutLoadingUser() {
+        // Arrange
+        when(userRepository.findVersionById(TEST_USER_ID)).thenReturn(Optional.of(3L));
+
+        // Act
+        long version = userService.getUserVersion(TEST_USER_ID_STRING);
+
+        // Assert
+        assertEquals(3L, version);
+        verify(userRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void getUserVersion_WhenUserDoesNotExist_ShouldThrowNotFoundException() {
+        // Arrange
+        when(userRepository.findVersionById(NON_EXISTENT_USER_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> userService.getUserVersion(NON_EXISTENT_USER_ID_STRING));
+    }
+
     @Test
     void createUser_WhenValidRequest_ShouldCreateUser() {
         // Arrange
         doNothing().when(createUserValidator).validate(createRequest);
+        when(passwordHashingService.hash("password456")).thenReturn("$pbkdf2-sha256$i=1$c2FsdA$aGFzaA");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // Act
@@ -154,7 +235,8 @@ class UserServiceTest {
         assertEquals(testUser.getFirstName(), result.getFirstName());
 
         verify(createUserValidator).validate(createRequest);
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).save(argThat(user -> "$pbkdf2-sha256$i=1$c2FsdA$aGFzaA".equals(user.getPassword())));
+        verify(userChanges).fire(argThat(event -> event.getType() == UserChangeEvent.Type.CREATED && event.getUser() == result));
     }
 
     @Test
@@ -166,14 +248,14 @@ class UserServiceTest {
         assertThrows(BadRequestException.class, () -> userService.createUser(createRequest));
         verify(createUserValidator).validate(createRequest);
         verify(userRepository, never()).save(any(User.class));
+        verify(userChanges, never()).fire(any());
     }
 
     @Test
     void updateUser_WhenUserExists_ShouldUpdateUser() {
         // Arrange
         doNothing().when(updateUserValidator).validate(TEST_USER_ID, updateRequest);
-        when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(testUser));
-        when(userRepository.update(any(User.class))).thenReturn(testUser);
+        when(userRepository.updateFields(eq(TEST_USER_ID), anyMap(), isNull())).thenReturn(Optional.of(testUser));
 
         // Act
         UserResponse result = userService.updateUser(TEST_USER_ID_STRING, updateRequest);
@@ -183,19 +265,46 @@ class UserServiceTest {
         assertEquals(testUser.getId(), result.getId());
 
         verify(updateUserValidator).validate(TEST_USER_ID, updateRequest);
-        verify(userRepository).findById(TEST_USER_ID);
-        verify(userRepository).update(any(User.class));
+        verify(userRepository).updateFields(eq(TEST_USER_ID), anyMap(), isNull());
+        verify(userRepository, never()).findById(any(UUID.class));
+        verify(userRepository, never()).update(any(User.class));
+    }
+
+    @Test
+    void updateUser_WhenPartialRequest_ShouldOnlyWriteProvidedFields() {
+        // Arrange
+        UpdateUserRequest partialRequest = new UpdateUserRequest("Jane", null, null, null);
+        when(userRepository.updateFields(eq(TEST_USER_ID), anyMap(), isNull())).thenReturn(Optional.of(testUser));
+
+        // Act
+        userService.updateUser(TEST_USER_ID_STRING, partialRequest);
+
+        // Assert
+        verify(userRepository).updateFields(TEST_USER_ID, Map.of("firstName", "Jane"), null);
+    }
+
+    @Test
+    void updateUser_WhenRequestIsEmpty_ShouldNotPublishChange() {
+        // Arrange
+        UpdateUserRequest emptyRequest = new UpdateUserRequest(null, null, null, null);
+        when(userRepository.updateFields(TEST_USER_ID, Map.of(), null)).thenReturn(Optional.of(testUser));
+
+        // Act
+        UserResponse result = userService.updateUser(TEST_USER_ID_STRING, emptyRequest);
+
+        // Assert
+        assertEquals(testUser.getId(), result.getId());
+        verify(userChanges, never()).fire(any());
     }
 
     @Test
     void updateUser_WhenUserDoesNotExist_ShouldThrowNotFoundException() {
         // Arrange
-        when(userRepository.findById(NON_EXISTENT_USER_ID)).thenReturn(Optional.empty());
+        when(userRepository.updateFields(eq(NON_EXISTENT_USER_ID), anyMap(), isNull())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(NotFoundException.class, () -> userService.updateUser(NON_EXISTENT_USER_ID_STRING, updateRequest));
-        verify(userRepository).findById(NON_EXISTENT_USER_ID);
-        verify(userRepository, never()).update(any(User.class));
+        verify(userRepository).updateFields(eq(NON_EXISTENT_USER_ID), anyMap(), isNull());
     }
 
     @Test
@@ -206,15 +315,39 @@ class UserServiceTest {
         // Act & Assert
         assertThrows(BadRequestException.class, () -> userService.updateUser(TEST_USER_ID_STRING, updateRequest));
         verify(updateUserValidator).validate(TEST_USER_ID, updateRequest);
-        verify(userRepository, never()).update(any(User.class));
+        verify(userRepository, never()).updateFields(any(UUID.class), anyMap(), any());
+    }
+
+    @Test
+    void updateUser_WhenVersionIsStale_ShouldThrowPreconditionFailed() {
+        // Arrange
+        when(userRepository.updateFields(eq(TEST_USER_ID), anyMap(), eq(1L))).thenReturn(Optional.empty());
+        when(userRepository.findVersionById(TEST_USER_ID)).thenReturn(Optional.of(2L));
+
+        // Act & Assert
+        ClientErrorException exception = assertThrows(ClientErrorException.class,
+                () -> userService.updateUser(TEST_USER_ID_STRING, updateRequest, 1L));
+        assertEquals(412, exception.getResponse().getStatus());
+    }
+
+    @Test
+    void updateUser_WhenWriteRacesAnotherWrite_ShouldThrowConflict() {
+        // Arrange
+        when(userRepository.updateFields(eq(TEST_USER_ID), anyMap(), isNull())).thenThrow(new OptimisticLockException());
+
+        // Act & Assert
+        ClientErrorException exception = assertThrows(ClientErrorException.class,
+                () -> userService.updateUser(TEST_USER_ID_STRING, updateRequest));
+        assertEquals(409, exception.getResponse().getStatus());
+        verify(userChanges, never()).fire(any());
     }
 
     @Test
     void resetPassword_WhenUserExists_ShouldResetPassword() {
         // Arrange
         doNothing().when(resetPasswordValidator).validate(resetPasswordRequest);
-        when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(testUser));
-        when(userRepository.update(any(User.class))).thenReturn(testUser);
+        when(passwordHashingService.hash("newPassword123")).thenReturn("hashed");
+        when(userRepository.updatePassword(TEST_USER_ID, "hashed", null)).thenReturn(Optional.of(testUser));
 
         // Act
         UserResponse result = userService.resetPassword(TEST_USER_ID_STRING, resetPasswordRequest);
@@ -223,19 +356,257 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(testUser.getId(), result.getId());
 
-        verify(userRepository).findById(TEST_USER_ID);
-        verify(userRepository).update(any(User.class));
+        verify(userRepository).updatePassword(TEST_USER_ID, "hashed", null);
+        verify(userRepository, never()).findById(any(UUID.class));
     }
 
     @Test
     void resetPassword_WhenUserDoesNotExist_ShouldThrowNotFoundException() {
         // Arrange
-        when(userRepository.findById(NON_EXISTENT_USER_ID)).thenReturn(Optional.empty());
+        when(passwordHashingService.hash("newPassword123")).thenReturn("hashed");
+        when(userRepository.updatePassword(NON_EXISTENT_USER_ID, "hashed", null)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(NotFoundException.class, () -> userService.resetPassword(NON_EXISTENT_USER_ID_STRING, resetPasswordRequest));
-        verify(userRepository).findById(NON_EXISTENT_USER_ID);
-        verify(userRepository, never()).update(any(User.class));
+        verify(userRepository).updatePassword(NON_EXISTENT_USER_ID, "hashed", null);
+    }
+
+    @Test
+    void verifyPassword_WhenPasswordMatches_ShouldReturnUser() {
+        // Arrange
+        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches("password123", "password123")).thenReturn(true);
+        when(passwordHashingService.needsRehash("password123")).thenReturn(false);
+
+        // Act
+        Optional<UserResponse> result = userService.verifyPassword("john.doe@example.com", "password123");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(testUser.getId(), result.get().getId());
+        verify(passwordHashingService, never()).hashAsync(anyString());
+    }
+
+    @Test
+    void verifyPassword_WhenHashIsOutdated_ShouldRehashInBackground() {
+        // Arrange
+        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches("password123", "password123")).thenReturn(true);
+        when(passwordHashingService.needsRehash("password123")).thenReturn(true);
+        when(passwordHashingService.hashAsync("password123")).thenReturn(CompletableFuture.completedFuture("rehashed"));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(managedExecutor).execute(any(Runnable.class));
+
+        // Act
+        Optional<UserResponse> result = userService.verifyPassword("john.doe@example.com", "password123");
+
+        // Assert
+        assertTrue(result.isPresent());
+        verify(userRepository).rehashPassword(TEST_USER_ID, "password123", "rehashed");
+    }
+
+    @Test
+    void verifyPassword_WhenPasswordDoesNotMatch_ShouldReturnEmpty() {
+        // Arrange
+        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches("wrongPassword", "password123")).thenReturn(false);
+
+        // Act & Assert
+        assertTrue(userService.verifyPassword("john.doe@example.com", "wrongPassword").isEmpty());
+        verify(userRepository, never()).rehashPassword(any(), any(), any());
+    }
+
+    @Test
+    void authenticate_WhenCredentialsAreValid_ShouldReturnUserAndPublishLogin() {
+        // Arrange
+        AuthenticateRequest request = new AuthenticateRequest("john.doe@example.com", "password123");
+        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches("password123", "password123")).thenReturn(true);
+
+        // Act
+        UserResponse result = userService.authenticate(request, "10.0.0.1", "JUnit");
+
+        // Assert
+        assertEquals(testUser.getId(), result.getId());
+        verify(loginThrottle).acquire("john.doe@example.com", "10.0.0.1");
+        verify(loginThrottle).recordSuccess("john.doe@example.com");
+        verify(messageBus).sendUserLogin(any(UserMessages.UserLogin.class));
+    }
+
+    @Test
+    void authenticate_WhenPasswordIsWrong_ShouldKeepReservedFailureAndThrowNotAuthorized() {
+        // Arrange
+        AuthenticateRequest request = new AuthenticateRequest("john.doe@example.com", "wrongPassword");
+        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches("wrongPassword", "password123")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(NotAuthorizedException.class, () -> userService.authenticate(request, "10.0.0.1", "JUnit"));
+        verify(loginThrottle).acquire("john.doe@example.com", "10.0.0.1");
+        verify(loginThrottle, never()).release(any());
+        verify(loginThrottle, never()).recordSuccess(any());
+        verify(messageBus, never()).sendUserLogin(any());
+    }
+
+    @Test
+    void authenticate_WhenHashingPoolIsBusy_ShouldReleaseReservedFailure() {
+        // Arrange
+        AuthenticateRequest request = new AuthenticateRequest("john.doe@example.com", "password123");
+        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches("password123", "password123"))
+                .thenThrow(new ServiceUnavailableException("Busy", 1L));
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> userService.authenticate(request, "10.0.0.1", "JUnit"));
+        verify(loginThrottle).release("john.doe@example.com");
+    }
+
+    @Test
+    void verifyPassword_WhenEmailIsUnknown_ShouldStillSpendHashingWork() {
+        // Arrange
+        when(userRepository.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(userService.verifyPassword("nobody@example.com", "password123").isEmpty());
+        verify(passwordHashingService).verifyUnknownUser("password123");
+    }
+
+    @Test
+    void authenticate_WhenThrottled_ShouldRejectBeforeHashing() {
+        // Arrange
+        AuthenticateRequest request = new AuthenticateRequest("john.doe@example.com", "password123");
+        doThrow(new ClientErrorException(429)).when(loginThrottle).acquire("john.doe@example.com", "10.0.0.1");
+
+        // Act
+        ClientErrorException exception = assertThrows(ClientErrorException.class,
+                () -> userService.authenticate(request, "10.0.0.1", "JUnit"));
+
+        // Assert
+        assertEquals(429, exception.getResponse().getStatus());
+        verify(passwordHashingService, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    void getUsersByIds_ShouldReturnResultsInRequestOrderWithMissesFlagged() {
+        // Arrange
+        when(userRepository.findByIds(anyCollection())).thenReturn(List.of(testUser));
+
+        // Act
+        List<UserLookupResult> results = userService.getUsersByIds(
+                List.of(NON_EXISTENT_USER_ID_STRING, TEST_USER_ID_STRING, TEST_USER_ID_STRING));
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals(NON_EXISTENT_USER_ID_STRING, results.get(0).getId());
+        assertFalse(results.get(0).isFound());
+        assertNull(results.get(0).getUser());
+        assertTrue(results.get(1).isFound());
+        assertEquals("john.doe@example.com", results.get(1).getUser().getEmail());
+        assertTrue(results.get(2).isFound());
+        verify(userRepository).findByIds(argThat(ids -> ids.size() == 2));
+    }
+
+    @Test
+    void getUsersByIds_WhenIdIsInvalid_ShouldThrowBadRequestException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userService.getUsersByIds(List.of(TEST_USER_ID_STRING, "abc")));
+        verify(userRepository, never()).findByIds(any());
+    }
+
+    @Test
+    void getChangesSince_ShouldMergeUpdatesAndDeletionsInKeysetOrderAndResumeFromCursor() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.of(2025, 7, 4, 0, 0);
+        testUser.setUpdatedAt(since.plusHours(2));
+        UserTombstone tombstone = new UserTombstone(NON_EXISTENT_USER_ID, since.plusHours(1), 4L);
+        when(userRepository.findUpdatedAfter(eq(since), isNull(), any(), eq(3))).thenReturn(List.of(testUser));
+        when(userRepository.findDeletedAfter(eq(since), isNull(), any(), eq(3))).thenReturn(List.of(tombstone));
+
+        // Act
+        SyncPage<UserResponse> first = userService.getChangesSince("2025-07-04T00:00:00", null, 2);
+
+        // Assert
+        assertEquals(2, first.getData().size());
+        assertFalse(first.isHasMore());
+        UserResponse deleted = first.getData().get(0);
+        assertEquals(NON_EXISTENT_USER_ID_STRING, deleted.getId());
+        assertTrue(deleted.getDeleted());
+        assertNull(deleted.getEmail());
+        assertEquals(TEST_USER_ID_STRING, first.getData().get(1).getId());
+        assertNull(first.getData().get(1).getDeleted());
+
+        // Act: the cursor resumes strictly after the last entry
+        userService.getChangesSince(null, first.getNextCursor(), 2);
+
+        // Assert
+        verify(userRepository).findUpdatedAfter(eq(since.plusHours(2)), eq(TEST_USER_ID), any(), eq(3));
+        verify(userRepository).findDeletedAfter(eq(since.plusHours(2)), eq(TEST_USER_ID), any(), eq(3));
+    }
+
+    @Test
+    void getChangesSince_WhenMoreChangesThanPageSize_ShouldFlagHasMore() {
+        // Arrange
+        User other = new User("Jane", "Smith", "jane.smith@example.com", "password456", LocalDate.of(1995, 5, 15));
+        other.setId(NON_EXISTENT_USER_ID);
+        when(userRepository.findUpdatedAfter(any(), isNull(), any(), eq(2))).thenReturn(List.of(testUser, other));
+        when(userRepository.findDeletedAfter(any(), isNull(), any(), eq(2))).thenReturn(List.of());
+
+        // Act
+        SyncPage<UserResponse> page = userService.getChangesSince("2025-07-04T00:00:00", null, 1);
+
+        // Assert
+        assertEquals(1, page.getData().size());
+        assertTrue(page.isHasMore());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getSortedUsers_ShouldOrderByFullIndexedKeyAndResumeFromCursor() {
+        // Arrange
+        User other = new User("Jane", "Doe", "jane.doe@example.com", "password456", LocalDate.of(1995, 5, 15));
+        other.setId(NON_EXISTENT_USER_ID);
+        when(userRepository.findSorted(any(), eq("lastName"), eq("Do"), isNull(), eq(2))).thenReturn(List.of(testUser, other));
+
+        // Act
+        SyncPage<UserResponse> first = userService.getSortedUsers("lastName, firstName, -createdAt", null, null, "Do", null, 1);
+
+        // Assert
+        assertEquals(1, first.getData().size());
+        assertTrue(first.isHasMore());
+        verify(userRepository).findSorted(argThat(sort -> sort.getKeys().equals(List.of(
+                new UserSort.Key("lastName", false), new UserSort.Key("firstName", false),
+                new UserSort.Key("createdAt", true), new UserSort.Key("id", true)))), any(), any(), isNull(), anyInt());
+
+        // Act: the cursor carries every key of the last user
+        userService.getSortedUsers("lastName,firstName,-createdAt", first.getNextCursor(), null, "Do", null, 1);
+
+        // Assert
+        verify(userRepository).findSorted(any(), eq("lastName"), eq("Do"),
+                eq(List.of("Doe", "John", testUser.getCreatedAt(), TEST_USER_ID)), eq(2));
+    }
+
+    @Test
+    void getSortedUsers_WhenSortHasNoIndexOrDoesNotMatchFilterOrCursor_ShouldThrowBadRequestException() {
+        // Arrange
+        when(userRepository.findSorted(any(), any(), any(), any(), anyInt())).thenReturn(List.of(testUser));
+        String emailCursor = userService.getSortedUsers("email", null, null, null, null, 1).getNextCursor();
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userService.getSortedUsers("birthday", null, null, null, null, 10));
+        assertThrows(BadRequestException.class, () -> userService.getSortedUsers("lastName,-firstName", null, null, null, null, 10));
+        assertThrows(BadRequestException.class, () -> userService.getSortedUsers("lastName", null, "Jo", null, null, 10));
+        assertThrows(BadRequestException.class, () -> userService.getSortedUsers("-email", emailCursor, null, null, null, 10));
+        assertThrows(BadRequestException.class, () -> userService.getSortedUsers("email", "not-a-cursor", null, null, null, 10));
+    }
+
+    @Test
+    void getChangesSince_WhenCursorIsInvalid_ShouldThrowBadRequestException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userService.getChangesSince(null, "not-a-cursor", 10));
+        assertThrows(BadRequestException.class, () -> userService.getChangesSince("yesterday", null, 10));
+        verify(userRepository, never()).findUpdatedAfter(any(), any(), any(), anyInt());
     }
 
     @Test
@@ -248,6 +619,21 @@ class UserServiceTest {
 
         // Assert
         verify(userRepository).deleteById(TEST_USER_ID);
+        verify(userChanges).fire(argThat(event -> event.getType() == UserChangeEvent.Type.DELETED
+                && TEST_USER_ID_STRING.equals(event.getUserId())));
+    }
+
+    @Test
+    void deleteUser_WhenVersionMatches_ShouldDeleteWithVersionGuard() {
+        // Arrange
+        when(userRepository.deleteById(TEST_USER_ID, 1L)).thenReturn(true);
+
+        // Act
+        userService.deleteUser(TEST_USER_ID_STRING, 1L);
+
+        // Assert
+        verify(userRepository).deleteById(TEST_USER_ID, 1L);
+        verify(userRepository, never()).deleteById(TEST_USER_ID);
     }
 
     @Test